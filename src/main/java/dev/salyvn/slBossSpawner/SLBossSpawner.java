@@ -1,35 +1,62 @@
 package dev.salyvn.slBossSpawner;
 
+import dev.salyvn.slBossSpawner.boss.BossConfig;
 import dev.salyvn.slBossSpawner.boss.BossScheduler;
+import dev.salyvn.slBossSpawner.boss.LeashService;
 import dev.salyvn.slBossSpawner.broadcast.BroadcastManager;
+import dev.salyvn.slBossSpawner.broadcast.CountdownService;
+import dev.salyvn.slBossSpawner.broadcast.LiveLeaderboard;
 import dev.salyvn.slBossSpawner.commands.BossCommand;
 import dev.salyvn.slBossSpawner.config.ConfigManager;
 import dev.salyvn.slBossSpawner.config.MessageManager;
 import dev.salyvn.slBossSpawner.config.ScheduleManager;
 import dev.salyvn.slBossSpawner.listener.BossDeathListener;
+import dev.salyvn.slBossSpawner.listener.BossLifecycleListener;
+import dev.salyvn.slBossSpawner.listener.CombatListener;
 import dev.salyvn.slBossSpawner.listener.DamageTracker;
+import dev.salyvn.slBossSpawner.listener.PlayerRegistry;
 import dev.salyvn.slBossSpawner.listener.SupportTracker;
 import dev.salyvn.slBossSpawner.listener.TankTracker;
+import dev.salyvn.slBossSpawner.listener.TrackedMobListener;
+import dev.salyvn.slBossSpawner.listener.TrackerAuditor;
+import dev.salyvn.slBossSpawner.metrics.PluginMetrics;
 import dev.salyvn.slBossSpawner.persist.BossStateManager;
 import dev.salyvn.slBossSpawner.persist.PendingRewardManager;
 import dev.salyvn.slBossSpawner.placeholder.BossPlaceholder;
 import dev.salyvn.slBossSpawner.reward.ItemProtectionListener;
 import dev.salyvn.slBossSpawner.reward.PendingRewardListener;
 import dev.salyvn.slBossSpawner.reward.RewardManager;
+import dev.salyvn.slBossSpawner.scheduler.ServerLoad;
+import dev.salyvn.slBossSpawner.scheduler.TaskScheduler;
+import dev.salyvn.slBossSpawner.scheduler.TimeoutWheel;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class SLBossSpawner extends JavaPlugin {
 
     private ConfigManager configManager;
     private MessageManager messageManager;
     private ScheduleManager scheduleManager;
+    private TaskScheduler taskScheduler;
+    private TimeoutWheel timeoutWheel;
+    private ServerLoad serverLoad;
+    private PluginMetrics metrics;
     private volatile BossScheduler bossScheduler;
+    private LeashService leashService;
     private BroadcastManager broadcastManager;
+    private CountdownService countdownService;
+    private PlayerRegistry playerRegistry;
+    private CombatListener combatListener;
     private DamageTracker damageTracker;
     private TankTracker tankTracker;
     private SupportTracker supportTracker;
+    private TrackedMobListener trackedMobListener;
+    private TrackerAuditor trackerAuditor;
+    private LiveLeaderboard liveLeaderboard;
     private BossStateManager bossStateManager;
     private PendingRewardManager pendingRewardManager;
     private RewardManager rewardManager;
@@ -44,29 +71,44 @@ public final class SLBossSpawner extends JavaPlugin {
             return;
         }
 
+        // Thread placement (Paper main thread or Folia regions)
+        taskScheduler = TaskScheduler.create(this);
+        if (taskScheduler.isFolia()) {
+            getLogger().info("Folia detected, using region schedulers");
+        }
+
         // Config & messages
         configManager = new ConfigManager(this);
         messageManager = new MessageManager(this);
         scheduleManager = new ScheduleManager(this);
 
+        // Shared timeouts (boss expiry, item protection)
+        timeoutWheel = new TimeoutWheel(this);
+
+        // Load sampling & counters
+        serverLoad = new ServerLoad(this);
+        metrics = new PluginMetrics();
+
         // Broadcast
         broadcastManager = new BroadcastManager(this);
+        countdownService = new CountdownService(this, broadcastManager);
 
-        // Damage tracking
-        damageTracker = new DamageTracker(this);
-        Bukkit.getPluginManager().registerEvents(damageTracker, this);
+        // Player handles & names, shared by every fight
+        playerRegistry = new PlayerRegistry(this);
+        Bukkit.getPluginManager().registerEvents(playerRegistry, this);
 
-        // Tank tracking
+        // Fight tracking: one combat pipeline feeding damage, tank and support collectors
+        damageTracker = new DamageTracker(this);
         tankTracker = new TankTracker(this);
-        Bukkit.getPluginManager().registerEvents(tankTracker, this);
-
-        // Support tracking
         supportTracker = new SupportTracker(this);
-        Bukkit.getPluginManager().registerEvents(supportTracker, this);
+        combatListener = new CombatListener(this);
+        combatListener.register(damageTracker);
+        combatListener.register(tankTracker);
+        combatListener.register(supportTracker); // registered with Bukkit only while a fight runs
 
         // Item protection
-        itemProtectionListener = new ItemProtectionListener(this);
-        Bukkit.getPluginManager().registerEvents(itemProtectionListener, this);
+        itemProtectionListener = new ItemProtectionListener(this); // registered only while drops are protected
+        itemProtectionListener.protectStartupDrops(maxItemProtectionSeconds());
 
         // Rewards
         pendingRewardManager = new PendingRewardManager(this);
@@ -75,12 +117,17 @@ public final class SLBossSpawner extends JavaPlugin {
         // Pending reward delivery on join
         Bukkit.getPluginManager().registerEvents(new PendingRewardListener(this), this);
 
-        // Boss scheduler
+        // Boss scheduler & shared leash engine
+        leashService = new LeashService(this);
         bossScheduler = new BossScheduler(this, scheduleManager);
 
         // Death listener (needs scheduler, all trackers, reward manager)
         Bukkit.getPluginManager().registerEvents(
             new BossDeathListener(this, damageTracker, tankTracker, supportTracker, rewardManager), this);
+        Bukkit.getPluginManager().registerEvents(new BossLifecycleListener(this), this);
+        trackedMobListener = new TrackedMobListener(this); // registered only while tracked-mobs lists a type
+        trackerAuditor = new TrackerAuditor(this);
+        liveLeaderboard = new LiveLeaderboard(this);
 
         // Persistence
         bossStateManager = new BossStateManager(this);
@@ -103,6 +150,8 @@ public final class SLBossSpawner extends JavaPlugin {
         // Start scheduler & restore state
         bossScheduler.start();
         bossStateManager.restoreFromState(bossScheduler);
+        trackerAuditor.start();
+        liveLeaderboard.start();
 
         getLogger().info("SLBossSpawner enabled successfully!");
     }
@@ -119,11 +168,30 @@ public final class SLBossSpawner extends JavaPlugin {
             bossScheduler.despawnAll();
         }
 
+        if (leashService != null) {
+            leashService.clear();
+        }
+
+        if (trackerAuditor != null) {
+            trackerAuditor.stop();
+        }
+        if (liveLeaderboard != null) {
+            liveLeaderboard.stop();
+        }
+
         // Save pending rewards synchronously to avoid data loss on shutdown
         if (pendingRewardManager != null) {
             pendingRewardManager.saveSync();
         }
 
+        if (combatListener != null) {
+            combatListener.clearAll();
+        }
+
+        if (trackedMobListener != null) {
+            trackedMobListener.clearAll();
+        }
+
         if (damageTracker != null) {
             damageTracker.clearAll();
         }
@@ -136,8 +204,9 @@ public final class SLBossSpawner extends JavaPlugin {
             supportTracker.clearAll();
         }
 
-        if (itemProtectionListener != null) {
-            itemProtectionListener.cleanup();
+        // Drops every pending boss expiry and item protection timeout
+        if (timeoutWheel != null) {
+            timeoutWheel.clear();
         }
 
         if (placeholder != null) {
@@ -168,18 +237,36 @@ public final class SLBossSpawner extends JavaPlugin {
         configManager.reload();
         messageManager.reload();
         scheduleManager.reload();
+        combatListener.configure();
 
         // Save state, despawn, recreate scheduler
         bossStateManager.saveAll();
         bossScheduler.stop();
         bossScheduler.despawnAll();
+        combatListener.clearAll();
+        trackedMobListener.clearAll();
         damageTracker.clearAll();
         tankTracker.clearAll();
         supportTracker.clearAll();
+        trackedMobListener.configure();
 
         bossScheduler = new BossScheduler(this, scheduleManager);
         bossScheduler.start();
         bossStateManager.restoreFromState(bossScheduler);
+        trackerAuditor.start();
+        liveLeaderboard.start();
+    }
+
+    private int maxItemProtectionSeconds() {
+        int max = 0;
+        List<BossConfig> configs = new ArrayList<>(scheduleManager.getAllBossConfigs().values());
+        configs.addAll(scheduleManager.getTrackedMobConfigs().values());
+        for (BossConfig config : configs) {
+            if (config.isItemProtectionEnabled()) {
+                max = Math.max(max, config.getItemProtectionDuration());
+            }
+        }
+        return max;
     }
 
     public void debug(String message) {
@@ -191,11 +278,22 @@ public final class SLBossSpawner extends JavaPlugin {
     public ConfigManager getConfigManager() { return configManager; }
     public MessageManager getMessageManager() { return messageManager; }
     public ScheduleManager getScheduleManager() { return scheduleManager; }
+    public TaskScheduler getTaskScheduler() { return taskScheduler; }
+    public TimeoutWheel getTimeoutWheel() { return timeoutWheel; }
+    public ServerLoad getServerLoad() { return serverLoad; }
+    public PluginMetrics getMetrics() { return metrics; }
     public BossScheduler getBossScheduler() { return bossScheduler; }
+    public LeashService getLeashService() { return leashService; }
     public BroadcastManager getBroadcastManager() { return broadcastManager; }
+    public CountdownService getCountdownService() { return countdownService; }
+    public PlayerRegistry getPlayerRegistry() { return playerRegistry; }
+    public CombatListener getCombatListener() { return combatListener; }
     public DamageTracker getDamageTracker() { return damageTracker; }
     public TankTracker getTankTracker() { return tankTracker; }
     public SupportTracker getSupportTracker() { return supportTracker; }
+    public TrackedMobListener getTrackedMobListener() { return trackedMobListener; }
+    public TrackerAuditor getTrackerAuditor() { return trackerAuditor; }
+    public LiveLeaderboard getLiveLeaderboard() { return liveLeaderboard; }
     public BossStateManager getBossStateManager() { return bossStateManager; }
     public PendingRewardManager getPendingRewardManager() { return pendingRewardManager; }
     public RewardManager getRewardManager() { return rewardManager; }
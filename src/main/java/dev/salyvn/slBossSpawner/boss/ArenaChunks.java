@@ -0,0 +1,96 @@
+package dev.salyvn.slBossSpawner.boss;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Chunk set of a boss arena: the spawn chunk plus every chunk the leash radius reaches.
+ * Chunks are loaded through Paper's async chunk API and pinned with plugin chunk tickets,
+ * so a spawn never pays for a synchronous chunk load on the tick thread.
+ *
+ * Tickets are taken at warmup (or at spawn/restore) and held while the boss is alive;
+ * death, expiry and despawn release them. Nothing is force-loaded permanently.
+ */
+public class ArenaChunks {
+    private final SLBossSpawner plugin;
+    private final World world;
+    private final int[] chunkX;
+    private final int[] chunkZ;
+
+    private CompletableFuture<Void> ready; // non-null while warming or warm
+    private int generation;                // bumped on release so late loads don't re-pin
+
+    ArenaChunks(SLBossSpawner plugin, Location center, int radius) {
+        this.plugin = plugin;
+        this.world = center.getWorld();
+
+        int r = Math.max(0, radius);
+        int minX = (center.getBlockX() - r) >> 4;
+        int maxX = (center.getBlockX() + r) >> 4;
+        int minZ = (center.getBlockZ() - r) >> 4;
+        int maxZ = (center.getBlockZ() + r) >> 4;
+
+        int count = (maxX - minX + 1) * (maxZ - minZ + 1);
+        this.chunkX = new int[count];
+        this.chunkZ = new int[count];
+        int i = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                chunkX[i] = x;
+                chunkZ[i] = z;
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Load and pin every arena chunk asynchronously.
+     * Returns the pending future if a warmup is already in progress or done.
+     */
+    public synchronized CompletableFuture<Void> warm() {
+        if (ready != null) return ready;
+
+        int gen = generation;
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[chunkX.length];
+        for (int i = 0; i < chunkX.length; i++) {
+            int x = chunkX[i];
+            int z = chunkZ[i];
+            // Completes on the thread owning the chunk, where adding a ticket is safe
+            loads[i] = world.getChunkAtAsync(x, z, true).thenAccept(chunk -> pin(gen, x, z));
+        }
+        ready = CompletableFuture.allOf(loads);
+        return ready;
+    }
+
+    public synchronized boolean isWarming() {
+        return ready != null;
+    }
+
+    /**
+     * Drop every ticket taken by {@link #warm()}.
+     */
+    public synchronized void release() {
+        if (ready == null) return;
+        ready = null;
+        generation++;
+
+        for (int i = 0; i < chunkX.length; i++) {
+            int x = chunkX[i];
+            int z = chunkZ[i];
+            Location at = new Location(world, (x << 4) + 8, 0, (z << 4) + 8);
+            plugin.getTaskScheduler().runAtLocation(at, () -> world.removePluginChunkTicket(x, z, plugin));
+        }
+    }
+
+    public int size() {
+        return chunkX.length;
+    }
+
+    private synchronized void pin(int gen, int x, int z) {
+        if (gen != generation) return;
+        world.addPluginChunkTicket(x, z, plugin);
+    }
+}
@@ -1,9 +1,14 @@
 package dev.salyvn.slBossSpawner.boss;
 
+import dev.salyvn.slBossSpawner.listener.DamageBucket;
+import dev.salyvn.slBossSpawner.reward.SupportScoring;
+import dev.salyvn.slBossSpawner.utils.CronSchedule;
 import org.bukkit.Location;
 
 import java.time.ZoneId;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 public class BossConfig {
     private final String id;
@@ -11,18 +16,28 @@ public class BossConfig {
     private final int expireSeconds;
     private final boolean clearOnExpire;
     private final List<String> scheduleTimes;
+    private final List<CronSchedule> schedules;
     private final ZoneId timeZone;
     private final Location spawnLocation;
     private final int leashRadius;
     private final boolean loadChunks;
+    private final int warmupSeconds; // async arena chunk load ahead of spawn
+
+    // Throttle policies, applied while the server is over budget
+    private final int throttleMaxDelaySeconds; // 0 = never delay
+    private final int throttleMaxPerWorld;     // 0 = no cap
+    private final boolean throttleSkipLeash;
 
     // Broadcast config
     private final boolean deathChat;
     private final boolean deathTitle;
+    private final boolean rankingChat;
     private final boolean spawnWarningChat;
     private final boolean spawnWarningTitle;
     private final boolean spawnWarningBossbar;
     private final List<Integer> spawnWarningIntervals;
+    private final int maxSpawnWarningMinutes;
+    private final int[] spawnWarningThresholds; // seconds before spawn, descending
 
     // Reward config
     private final boolean rewardsEnabled;
@@ -36,38 +51,62 @@ public class BossConfig {
     // Per-category reward tiers
     private final List<RewardTierConfig> damageRewardTiers;
     private final boolean damageRewardsEnabled;
+    // Extra damage rankings by cause (damage.by-cause), only causes with tiers
+    private final Map<DamageBucket, List<RewardTierConfig>> causeRewardTiers;
     private final List<RewardTierConfig> tankRewardTiers;
     private final boolean tankRewardsEnabled;
     private final List<RewardTierConfig> supportRewardTiers;
     private final boolean supportRewardsEnabled;
+    private final SupportScoring supportScoring;
+    private final SupportScoring allySupportScoring;
+    private final double supportHealWeight;
 
     public BossConfig(String id, String mythicMobId, int expireSeconds, boolean clearOnExpire,
-                      List<String> scheduleTimes, ZoneId timeZone, Location spawnLocation,
-                      int leashRadius, boolean loadChunks,
-                      boolean deathChat, boolean deathTitle,
+                      List<String> scheduleTimes, List<CronSchedule> schedules,
+                      ZoneId timeZone, Location spawnLocation,
+                      int leashRadius, boolean loadChunks, int warmupSeconds,
+                      int throttleMaxDelaySeconds, int throttleMaxPerWorld, boolean throttleSkipLeash,
+                      boolean deathChat, boolean deathTitle, boolean rankingChat,
                       boolean spawnWarningChat, boolean spawnWarningTitle, boolean spawnWarningBossbar,
                       List<Integer> spawnWarningIntervals,
                       boolean rewardsEnabled, boolean itemProtectionEnabled, int itemProtectionDuration,
                       String itemProtectionExpireAction, double lastHitMultiplier, double globalMultiplier,
                       boolean multiplyDropTables,
                       boolean damageRewardsEnabled, List<RewardTierConfig> damageRewardTiers,
+                      Map<DamageBucket, List<RewardTierConfig>> causeRewardTiers,
                       boolean tankRewardsEnabled, List<RewardTierConfig> tankRewardTiers,
-                      boolean supportRewardsEnabled, List<RewardTierConfig> supportRewardTiers) {
+                      boolean supportRewardsEnabled, List<RewardTierConfig> supportRewardTiers,
+                      SupportScoring supportScoring, SupportScoring allySupportScoring,
+                      double supportHealWeight) {
         this.id = id;
         this.mythicMobId = mythicMobId;
         this.expireSeconds = expireSeconds;
         this.clearOnExpire = clearOnExpire;
         this.scheduleTimes = scheduleTimes;
+        this.schedules = schedules;
         this.timeZone = timeZone;
         this.spawnLocation = spawnLocation;
         this.leashRadius = leashRadius;
         this.loadChunks = loadChunks;
+        this.warmupSeconds = warmupSeconds;
+        this.throttleMaxDelaySeconds = throttleMaxDelaySeconds;
+        this.throttleMaxPerWorld = throttleMaxPerWorld;
+        this.throttleSkipLeash = throttleSkipLeash;
         this.deathChat = deathChat;
         this.deathTitle = deathTitle;
+        this.rankingChat = rankingChat;
         this.spawnWarningChat = spawnWarningChat;
         this.spawnWarningTitle = spawnWarningTitle;
         this.spawnWarningBossbar = spawnWarningBossbar;
         this.spawnWarningIntervals = spawnWarningIntervals;
+        this.maxSpawnWarningMinutes = spawnWarningIntervals.stream()
+            .mapToInt(Integer::intValue).max().orElse(30);
+        this.spawnWarningThresholds = spawnWarningIntervals.stream()
+            .filter(minutes -> minutes > 0)
+            .distinct()
+            .sorted(Comparator.reverseOrder())
+            .mapToInt(minutes -> minutes * 60)
+            .toArray();
         this.rewardsEnabled = rewardsEnabled;
         this.itemProtectionEnabled = itemProtectionEnabled;
         this.itemProtectionDuration = itemProtectionDuration;
@@ -77,10 +116,14 @@ public class BossConfig {
         this.multiplyDropTables = multiplyDropTables;
         this.damageRewardsEnabled = damageRewardsEnabled;
         this.damageRewardTiers = damageRewardTiers;
+        this.causeRewardTiers = causeRewardTiers;
         this.tankRewardsEnabled = tankRewardsEnabled;
         this.tankRewardTiers = tankRewardTiers;
         this.supportRewardsEnabled = supportRewardsEnabled;
         this.supportRewardTiers = supportRewardTiers;
+        this.supportScoring = supportScoring;
+        this.allySupportScoring = allySupportScoring;
+        this.supportHealWeight = supportHealWeight;
     }
 
     public String getId() { return id; }
@@ -88,16 +131,24 @@ public class BossConfig {
     public int getExpireSeconds() { return expireSeconds; }
     public boolean isClearOnExpire() { return clearOnExpire; }
     public List<String> getScheduleTimes() { return scheduleTimes; }
+    public List<CronSchedule> getSchedules() { return schedules; }
     public ZoneId getTimeZone() { return timeZone; }
     public Location getSpawnLocation() { return spawnLocation; }
     public int getLeashRadius() { return leashRadius; }
     public boolean isLoadChunks() { return loadChunks; }
+    public int getWarmupSeconds() { return warmupSeconds; }
+    public int getThrottleMaxDelaySeconds() { return throttleMaxDelaySeconds; }
+    public int getThrottleMaxPerWorld() { return throttleMaxPerWorld; }
+    public boolean isThrottleSkipLeash() { return throttleSkipLeash; }
     public boolean isDeathChat() { return deathChat; }
     public boolean isDeathTitle() { return deathTitle; }
+    public boolean isRankingChat() { return rankingChat; }
     public boolean isSpawnWarningChat() { return spawnWarningChat; }
     public boolean isSpawnWarningTitle() { return spawnWarningTitle; }
     public boolean isSpawnWarningBossbar() { return spawnWarningBossbar; }
     public List<Integer> getSpawnWarningIntervals() { return spawnWarningIntervals; }
+    public int getMaxSpawnWarningMinutes() { return maxSpawnWarningMinutes; }
+    public int[] getSpawnWarningThresholds() { return spawnWarningThresholds; }
     public boolean isRewardsEnabled() { return rewardsEnabled; }
     public boolean isItemProtectionEnabled() { return itemProtectionEnabled; }
     public int getItemProtectionDuration() { return itemProtectionDuration; }
@@ -111,10 +162,14 @@ public class BossConfig {
 
     public boolean isDamageRewardsEnabled() { return damageRewardsEnabled; }
     public List<RewardTierConfig> getDamageRewardTiers() { return damageRewardTiers; }
+    public Map<DamageBucket, List<RewardTierConfig>> getCauseRewardTiers() { return causeRewardTiers; }
     public boolean isTankRewardsEnabled() { return tankRewardsEnabled; }
     public List<RewardTierConfig> getTankRewardTiers() { return tankRewardTiers; }
     public boolean isSupportRewardsEnabled() { return supportRewardsEnabled; }
     public List<RewardTierConfig> getSupportRewardTiers() { return supportRewardTiers; }
+    public SupportScoring getSupportScoring() { return supportScoring; }
+    public SupportScoring getAllySupportScoring() { return allySupportScoring; }
+    public double getSupportHealWeight() { return supportHealWeight; }
 
     /**
      * Per-rank reward tier configuration.
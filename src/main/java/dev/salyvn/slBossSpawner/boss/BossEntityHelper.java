@@ -1,15 +1,23 @@
 package dev.salyvn.slBossSpawner.boss;
 
 import io.lumine.mythic.core.mobs.ActiveMob;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataType;
 
 import javax.annotation.Nullable;
 
 /**
  * Safely access Bukkit entity from MythicMobs ActiveMob.
  * Prevents NPE when entity is unloaded, despawned, or executor is null.
+ *
+ * Spawned bosses carry their boss id in the entity's PersistentDataContainer, so a boss
+ * entity can be recognised after restarts and reloads without asking MythicMobs.
  */
 public final class BossEntityHelper {
+    // Namespace is the lower-cased plugin name, as NamespacedKey(plugin, key) would produce
+    private static final NamespacedKey BOSS_ID_KEY = new NamespacedKey("slbossspawner", "boss_id");
+
     private BossEntityHelper() {}
 
     @Nullable
@@ -21,4 +29,20 @@ public final class BossEntityHelper {
         if (entity == null || !entity.isValid() || entity.isDead()) return null;
         return entity;
     }
+
+    /**
+     * Mark an entity as the given boss. Must run on the entity's thread.
+     */
+    public static void tag(Entity entity, String bossId) {
+        entity.getPersistentDataContainer().set(BOSS_ID_KEY, PersistentDataType.STRING, bossId);
+    }
+
+    /**
+     * @return the boss id the entity was tagged with, or null for any other entity
+     */
+    @Nullable
+    public static String getBossId(@Nullable Entity entity) {
+        if (entity == null) return null;
+        return entity.getPersistentDataContainer().get(BOSS_ID_KEY, PersistentDataType.STRING);
+    }
 }
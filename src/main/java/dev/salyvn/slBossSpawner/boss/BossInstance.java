@@ -1,64 +1,85 @@
 package dev.salyvn.slBossSpawner.boss;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.scheduler.TimeoutWheel;
+import dev.salyvn.slBossSpawner.utils.CronSchedule;
 import dev.salyvn.slBossSpawner.utils.TimeUtils;
 import io.lumine.mythic.bukkit.MythicBukkit;
 import io.lumine.mythic.core.mobs.ActiveMob;
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class BossInstance {
+    public static final String REMOVED_METRIC = "boss.removed";
+    // Time for a removed entity to reappear (dimension change) before its fight is ended
+    private static final long REMOVAL_GRACE_TICKS = 20L;
+
     private final SLBossSpawner plugin;
+    private final BossScheduler scheduler;
     private final BossConfig config;
-    private BukkitTask expireTask;
-    private BukkitTask leashTask;
-
-    private ActiveMob currentBoss;
-    private UUID entityUuid;
-    private ZonedDateTime nextSpawnTime;
-    private ZonedDateTime expireTime;
-    private Location spawnOrigin;
-    private long spawnEpoch;
-    private long expireEpoch;
-
-    public BossInstance(SLBossSpawner plugin, BossConfig config) {
+    private final ArenaChunks arena; // null without a valid spawn location
+
+    // Written on the arena's region thread, read from global (scheduler, placeholders, commands)
+    private volatile ActiveMob currentBoss;
+    private volatile UUID entityUuid;
+    private volatile ZonedDateTime nextSpawnTime;
+    private volatile ZonedDateTime expireTime;
+    private volatile Location spawnOrigin;
+    private volatile long spawnEpoch;
+    private volatile long expireEpoch;
+    private volatile TimeoutWheel.Timeout expireTimeout;
+    private volatile BossState state = BossState.SCHEDULED;
+    private volatile TimeoutWheel.Timeout removalCheck;
+
+    public BossInstance(SLBossSpawner plugin, BossScheduler scheduler, BossConfig config) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.config = config;
+
+        Location loc = config.getSpawnLocation();
+        this.arena = (loc != null && loc.getWorld() != null)
+            ? new ArenaChunks(plugin, loc, config.getLeashRadius())
+            : null;
     }
 
     public void calculateNextSpawn() {
-        List<String> times = config.getScheduleTimes();
-        if (times.isEmpty()) {
+        calculateNextSpawn(System.currentTimeMillis());
+    }
+
+    /**
+     * Next spawn strictly after the later of now and the given instant, so a slot that
+     * fired slightly early is never picked again.
+     */
+    public void calculateNextSpawn(long notBeforeMillis) {
+        List<CronSchedule> schedules = config.getSchedules();
+        if (schedules.isEmpty()) {
             nextSpawnTime = null;
             return;
         }
 
+        long from = Math.max(System.currentTimeMillis(), notBeforeMillis);
+        ZonedDateTime now = Instant.ofEpochMilli(from).atZone(config.getTimeZone());
         ZonedDateTime earliest = null;
-        for (String timeStr : times) {
-            ZonedDateTime scheduled = TimeUtils.getNextScheduledTime(timeStr, config.getTimeZone());
-            if (earliest == null || scheduled.isBefore(earliest)) {
+        for (CronSchedule schedule : schedules) {
+            ZonedDateTime scheduled = schedule.next(now);
+            if (scheduled != null && (earliest == null || scheduled.isBefore(earliest))) {
                 earliest = scheduled;
             }
         }
         nextSpawnTime = earliest;
     }
 
-    public boolean shouldSpawn() {
-        if (nextSpawnTime == null || isAlive()) return false;
-        ZonedDateTime now = ZonedDateTime.now(config.getTimeZone());
-        return !now.isBefore(nextSpawnTime);
-    }
-
     public void spawn() {
-        despawn();
+        if (currentBoss != null) {
+            despawn();
+        }
 
         Location loc = config.getSpawnLocation();
         if (loc == null || loc.getWorld() == null) {
@@ -66,13 +87,6 @@ public class BossInstance {
             return;
         }
 
-        if (config.isLoadChunks()) {
-            Chunk chunk = loc.getChunk();
-            if (!chunk.isLoaded()) {
-                chunk.load(true);
-            }
-        }
-
         try {
             ActiveMob mob = MythicBukkit.inst().getMobManager().spawnMob(
                 config.getMythicMobId(), loc
@@ -84,6 +98,11 @@ public class BossInstance {
 
                 Entity entity = BossEntityHelper.getBukkitEntity(mob);
                 entityUuid = (entity != null) ? entity.getUniqueId() : null;
+                if (entity != null) {
+                    BossEntityHelper.tag(entity, config.getId());
+                    scheduler.indexEntity(entityUuid, this);
+                }
+                state = BossState.ALIVE;
 
                 long now = Instant.now().getEpochSecond();
                 spawnEpoch = now;
@@ -93,27 +112,67 @@ public class BossInstance {
 
                 startExpireTimer(config.getExpireSeconds());
 
-                if (config.getLeashRadius() > 0) {
-                    startLeashCheck();
+                if (config.getLeashRadius() > 0 && entity != null) {
+                    startLeashCheck(entity);
                 }
 
+                // Keep the leash area loaded for as long as the boss lives
+                holdArena();
+
                 plugin.debug("Boss spawned: " + config.getMythicMobId() + " (" + config.getId() + ") UUID=" + entityUuid);
                 plugin.getLogger().info("Boss spawned: " + config.getMythicMobId() + " (" + config.getId() + ")");
 
                 // Start tracking for this boss (damage, tank, support)
-                if (entityUuid != null) {
-                    plugin.getDamageTracker().startTracking(entityUuid);
-                    plugin.getTankTracker().startTracking(entityUuid);
-                    plugin.getSupportTracker().startTracking(entityUuid);
+                if (entity != null) {
+                    plugin.getCombatListener().startFight(entityUuid, entity.getEntityId(), config);
                 }
 
                 // Save state
-                plugin.getBossStateManager().saveSingle(this);
+                plugin.getBossStateManager().requestSave();
             }
         } catch (Exception e) {
             plugin.getLogger().severe("Failed to spawn boss " + config.getId() + ": " + e.getMessage());
             e.printStackTrace();
         }
+
+        if (currentBoss == null) {
+            // Spawn failed: warmup tickets have nothing left to hold
+            releaseArena();
+            state = BossState.SCHEDULED;
+        }
+    }
+
+    /**
+     * Asynchronously load and pin the arena chunks (spawn chunk plus leash radius).
+     * Completes immediately when chunk loading is disabled for this boss.
+     */
+    public CompletableFuture<Void> warmArena() {
+        if (!config.isLoadChunks() || arena == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!arena.isWarming()) {
+            plugin.debug("Warming " + arena.size() + " arena chunks for boss " + config.getId());
+        }
+        if (state == BossState.SCHEDULED || state == BossState.DEAD) {
+            state = BossState.WARMING;
+        }
+        return arena.warm();
+    }
+
+    /**
+     * Pin the arena while the boss is alive, regardless of loadChunks. A boss whose chunk
+     * unloads would otherwise look dead to the scheduler and trackers.
+     */
+    private void holdArena() {
+        if (arena != null) {
+            arena.warm();
+        }
+    }
+
+    private void releaseArena() {
+        if (arena != null) {
+            arena.release();
+        }
     }
 
     /**
@@ -123,31 +182,31 @@ public class BossInstance {
         long now = Instant.now().getEpochSecond();
         if (now >= savedExpireEpoch) {
             plugin.debug("Boss " + config.getId() + " expired during downtime, skipping restore");
+            removeOrphan(savedUuid);
             return false;
         }
 
-        // Find the ActiveMob by entity UUID from MythicMobs registry
-        ActiveMob found = null;
-        for (ActiveMob am : MythicBukkit.inst().getMobManager().getActiveMobs()) {
-            Entity e = BossEntityHelper.getBukkitEntity(am);
-            if (e != null && e.getUniqueId().equals(savedUuid)) {
-                found = am;
-                break;
-            }
-        }
-
-        if (found == null) {
+        // Direct lookup in the MythicMobs registry by entity UUID
+        ActiveMob found = MythicBukkit.inst().getMobManager().getActiveMob(savedUuid).orElse(null);
+        Entity entity = BossEntityHelper.getBukkitEntity(found);
+        if (entity == null) {
             plugin.debug("Boss " + config.getId() + " entity not found for UUID " + savedUuid + ", skipping restore");
             return false;
         }
 
-        Entity entity = BossEntityHelper.getBukkitEntity(found);
-        if (entity == null) {
+        // Bosses spawned before tagging existed carry no tag; anything tagged must be ours
+        String taggedId = BossEntityHelper.getBossId(entity);
+        if (taggedId != null && !taggedId.equals(config.getId())) {
+            plugin.getLogger().warning("Entity " + savedUuid + " belongs to boss " + taggedId
+                + ", not " + config.getId() + ", skipping restore");
             return false;
         }
+        BossEntityHelper.tag(entity, config.getId());
 
         currentBoss = found;
         entityUuid = savedUuid;
+        scheduler.indexEntity(savedUuid, this);
+        state = BossState.ALIVE;
         spawnEpoch = savedSpawnEpoch;
         expireEpoch = savedExpireEpoch;
         spawnOrigin = entity.getLocation().clone();
@@ -158,67 +217,55 @@ public class BossInstance {
         startExpireTimer(remaining);
 
         if (config.getLeashRadius() > 0) {
-            startLeashCheck();
+            startLeashCheck(entity);
         }
 
+        holdArena();
+
         plugin.getLogger().info("Boss restored: " + config.getId() + " (remaining: " + remaining + "s)");
 
         // Start tracking for restored boss (damage, tank, support)
-        plugin.getDamageTracker().startTracking(entityUuid);
-        plugin.getTankTracker().startTracking(entityUuid);
-        plugin.getSupportTracker().startTracking(entityUuid);
+        plugin.getCombatListener().startFight(entityUuid, entity.getEntityId(), config);
 
         return true;
     }
 
-    private void startExpireTimer(long seconds) {
-        if (expireTask != null) {
-            expireTask.cancel();
-        }
+    /**
+     * A boss that expired while the server was down may still be in a loaded chunk.
+     * Remove it if this boss clears on expiry, so it cannot be farmed without rewards.
+     */
+    private void removeOrphan(UUID savedUuid) {
+        if (!config.isClearOnExpire()) return;
 
-        expireTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (config.isClearOnExpire()) {
-                despawn();
-                plugin.getLogger().info("Boss expired and removed: " + config.getId());
-            }
-            expireTime = null;
-        }, seconds * 20L);
+        Entity entity = Bukkit.getEntity(savedUuid);
+        if (entity != null && config.getId().equals(BossEntityHelper.getBossId(entity))) {
+            plugin.getTaskScheduler().runAtEntity(entity, entity::remove, null);
+            plugin.getLogger().info("Removed expired boss left from before restart: " + config.getId());
+        }
     }
 
-    private void startLeashCheck() {
-        if (leashTask != null) {
-            leashTask.cancel();
+    private void startExpireTimer(long seconds) {
+        if (expireTimeout != null) {
+            expireTimeout.cancel();
         }
+        expireTimeout = plugin.getTimeoutWheel().schedule(seconds * 20L, this::expire);
+    }
 
-        leashTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (currentBoss == null || spawnOrigin == null) {
-                if (leashTask != null) {
-                    leashTask.cancel();
-                    leashTask = null;
-                }
-                return;
-            }
-
-            Entity entity = BossEntityHelper.getBukkitEntity(currentBoss);
-            if (entity == null) {
-                plugin.debug("Boss entity lost during leash check: " + config.getId());
-                cleanup();
-                return;
-            }
-
-            // Cross-world or unloaded world check
-            if (spawnOrigin.getWorld() == null || !entity.getWorld().equals(spawnOrigin.getWorld())) {
-                if (spawnOrigin.getWorld() != null) {
-                    entity.teleport(spawnOrigin);
-                }
-                return;
-            }
+    private void expire() {
+        expireTimeout = null;
+        if (config.isClearOnExpire()) {
+            despawn();
+            plugin.getLogger().info("Boss expired and removed: " + config.getId());
+        } else {
+            // Expired bosses stay in the world but no longer keep the arena loaded
+            releaseArena();
+            if (state == BossState.ALIVE) state = BossState.EXPIRED;
+        }
+        expireTime = null;
+    }
 
-            double distance = entity.getLocation().distance(spawnOrigin);
-            if (distance > config.getLeashRadius()) {
-                entity.teleport(spawnOrigin);
-            }
-        }, 20L, 20L);
+    private void startLeashCheck(Entity entity) {
+        plugin.getLeashService().track(this, entity, spawnOrigin, config.getLeashRadius());
     }
 
     /**
@@ -226,15 +273,75 @@ public class BossInstance {
      */
     public void onDeath() {
         plugin.getLogger().info("Boss died: " + config.getMythicMobId() + " (" + config.getId() + ")");
+        finish(BossState.DEAD);
+    }
+
+    /**
+     * Boss entity came back with its chunk. Called by BossLifecycleListener.
+     */
+    public void onEntityLoaded(Entity entity) {
+        // A reloaded entity is a new object with a new int id
+        plugin.getCombatListener().updateEntityId(entity.getUniqueId(), entity.getEntityId());
+
+        if (state != BossState.UNLOADED) return;
+        cancelRemovalCheck();
+        state = (expireTime == null) ? BossState.EXPIRED : BossState.ALIVE;
+        plugin.debug("Boss entity loaded: " + config.getId() + " -> " + state);
+    }
+
+    /**
+     * Boss entity's chunk is unloading; the fight pauses until it loads again.
+     * Called by BossLifecycleListener.
+     */
+    public void onEntityUnloaded() {
+        if (!state.isAlive()) return;
+        state = BossState.UNLOADED;
+        plugin.debug("Boss entity unloaded: " + config.getId());
+    }
+
+    /**
+     * Boss entity left the world without dying and without a chunk unload:
+     * another plugin, /kill-style removal, or a dimension change. Unless it shows up
+     * again within the grace period, the fight ends and its trackers are released.
+     */
+    public void onEntityRemoved(Entity entity) {
+        if (!state.isAlive()) return; // already unloaded, dead or cleared
+        state = BossState.UNLOADED;
+
+        Location at = entity.getLocation();
+        cancelRemovalCheck();
+        removalCheck = plugin.getTimeoutWheel().schedule(REMOVAL_GRACE_TICKS,
+            () -> plugin.getTaskScheduler().runAtLocation(at, () -> confirmRemoved(at)));
+    }
+
+    private void confirmRemoved(Location at) {
+        removalCheck = null;
+        if (state != BossState.UNLOADED) return;
+        // Chunk went away with it: treat as an unload, the fight resumes on load
+        if (!at.getWorld().isChunkLoaded(at.getBlockX() >> 4, at.getBlockZ() >> 4)) return;
+
+        plugin.getLogger().info("Boss removed from the world without dying: " + config.getId());
+        plugin.getMetrics().increment(REMOVED_METRIC);
         cleanup();
     }
 
+    private void cancelRemovalCheck() {
+        TimeoutWheel.Timeout check = removalCheck;
+        if (check != null) {
+            check.cancel();
+            removalCheck = null;
+        }
+    }
+
     public void cleanup() {
+        finish(BossState.SCHEDULED);
+    }
+
+    private void finish(BossState endState) {
         // Stop trackers to prevent memory leak
         if (entityUuid != null) {
-            plugin.getDamageTracker().stopTracking(entityUuid);
-            plugin.getTankTracker().stopTracking(entityUuid);
-            plugin.getSupportTracker().stopTracking(entityUuid);
+            scheduler.unindexEntity(entityUuid, this);
+            plugin.getCombatListener().endFight(entityUuid);
         }
 
         currentBoss = null;
@@ -244,44 +351,40 @@ public class BossInstance {
         spawnEpoch = 0;
         expireEpoch = 0;
 
-        if (expireTask != null) {
-            expireTask.cancel();
-            expireTask = null;
+        if (expireTimeout != null) {
+            expireTimeout.cancel();
+            expireTimeout = null;
         }
+        cancelRemovalCheck();
+        plugin.getLeashService().untrack(this);
+        releaseArena();
+        state = endState;
 
-        if (leashTask != null) {
-            leashTask.cancel();
-            leashTask = null;
-        }
+        scheduler.onBossCleared(this);
     }
 
     public void despawn() {
-        if (currentBoss != null) {
-            Entity entity = BossEntityHelper.getBukkitEntity(currentBoss);
-            if (entity != null) {
-                entity.remove();
-            }
+        Entity entity = BossEntityHelper.getBukkitEntity(currentBoss);
+        if (entity != null) {
+            plugin.getTaskScheduler().runAtEntity(entity, entity::remove, null);
         }
         cleanup();
     }
 
     public void stop() {
-        if (expireTask != null) {
-            expireTask.cancel();
-            expireTask = null;
-        }
-
-        if (leashTask != null) {
-            leashTask.cancel();
-            leashTask = null;
-        }
+        plugin.getLeashService().untrack(this);
+        releaseArena();
     }
 
+    /**
+     * Cached lifecycle check; never touches the entity.
+     */
     public boolean isAlive() {
-        if (currentBoss == null) return false;
-        return BossEntityHelper.getBukkitEntity(currentBoss) != null;
+        return state.isAlive();
     }
 
+    public BossState getState() { return state; }
+
     public BossConfig getConfig() { return config; }
     public ActiveMob getCurrentBoss() { return currentBoss; }
     public UUID getEntityUuid() { return entityUuid; }
@@ -1,123 +1,260 @@
 package dev.salyvn.slBossSpawner.boss;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
-import dev.salyvn.slBossSpawner.broadcast.SpawnWarningTask;
 import dev.salyvn.slBossSpawner.config.ScheduleManager;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
+import dev.salyvn.slBossSpawner.scheduler.TaskHandle;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
 
+import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Event-driven spawn scheduler.
+ * Every upcoming warning, chunk warmup and spawn is kept in a min-heap keyed on its
+ * fire time; a single task sleeps until the head is due, so idle cost does not
+ * depend on how many bosses are configured.
+ *
+ * The timeline lives on the global thread; due spawns go through the {@link SpawnQueue},
+ * which hands them to the region owning the arena. Callers on other threads hop back to
+ * global before touching the timeline.
+ */
 public class BossScheduler {
+    // Cap a single sleep so lag-induced tick drift stays bounded
+    private static final long MAX_SLEEP_TICKS = 100L;
+    private static final long MILLIS_PER_TICK = 50L;
+
     private final SLBossSpawner plugin;
     private final ScheduleManager scheduleManager;
-    private BukkitTask checkTask;
-    private final Map<String, BossInstance> bossInstances = new HashMap<>();
-    private final Map<String, SpawnWarningTask> warningTasks = new HashMap<>();
+    private final Map<String, BossInstance> bossInstances = new ConcurrentHashMap<>();
+    // Live boss entities; every MythicMob death is checked against this
+    private final Map<UUID, BossInstance> entityIndex = new ConcurrentHashMap<>();
+
+    // Pending fire events, earliest first. Superseded entries are dropped lazily
+    // when their generation no longer matches the boss slot.
+    private final PriorityQueue<FireEntry> timeline = new PriorityQueue<>();
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final SpawnQueue spawnQueue;
+
+    private TaskHandle wakeTask;
+    private long wakeAt = Long.MAX_VALUE;
+    private boolean running;
 
     public BossScheduler(SLBossSpawner plugin, ScheduleManager scheduleManager) {
         this.plugin = plugin;
         this.scheduleManager = scheduleManager;
+        this.spawnQueue = new SpawnQueue(plugin);
         initializeBosses();
     }
 
     private void initializeBosses() {
         bossInstances.clear();
+        entityIndex.clear();
+        slots.clear();
 
         Map<String, BossConfig> configs = scheduleManager.getAllBossConfigs();
         for (Map.Entry<String, BossConfig> entry : configs.entrySet()) {
-            BossInstance instance = new BossInstance(plugin, entry.getValue());
+            BossInstance instance = new BossInstance(plugin, this, entry.getValue());
             instance.calculateNextSpawn();
             bossInstances.put(entry.getKey(), instance);
+            slots.put(entry.getKey(), new Slot());
         }
     }
 
     public void start() {
         stop();
+        running = true;
 
         for (BossInstance instance : bossInstances.values()) {
             instance.calculateNextSpawn();
+            reschedule(instance);
         }
-
-        checkTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkSpawns, 20L, 20L);
     }
 
     public void stop() {
-        if (checkTask != null) {
-            checkTask.cancel();
-            checkTask = null;
-        }
+        running = false;
+        cancelWake();
+        timeline.clear();
+        spawnQueue.clear();
 
-        for (SpawnWarningTask task : warningTasks.values()) {
-            task.stop();
-        }
-        warningTasks.clear();
+        plugin.getCountdownService().cancelAll();
 
         for (BossInstance instance : bossInstances.values()) {
             instance.stop();
         }
     }
 
-    private void checkSpawns() {
-        for (Map.Entry<String, BossInstance> entry : bossInstances.entrySet()) {
-            String bossId = entry.getKey();
-            BossInstance instance = entry.getValue();
-            BossConfig config = instance.getConfig();
-
-            // Check if we need to start spawn warnings
-            if (!instance.isAlive() && instance.getSecondsUntilNext() > 0) {
-                long secondsUntilSpawn = instance.getSecondsUntilNext();
-                SpawnWarningTask warningTask = warningTasks.get(bossId);
-
-                // Start warning task if not running and within max warning interval
-                if (warningTask == null || !warningTask.isRunning()) {
-                    int maxInterval = config.getSpawnWarningIntervals().stream()
-                        .mapToInt(Integer::intValue).max().orElse(30);
-                    long maxWarningSeconds = maxInterval * 60L;
-
-                    if (secondsUntilSpawn <= maxWarningSeconds && secondsUntilSpawn > 0) {
-                        SpawnWarningTask newTask = new SpawnWarningTask(
-                            plugin, plugin.getBroadcastManager(), config);
-                        newTask.start(secondsUntilSpawn);
-                        warningTasks.put(bossId, newTask);
-                    }
-                }
+    /**
+     * Replace any queued warning/warmup/spawn for this boss with entries for its current next spawn time.
+     */
+    private void reschedule(BossInstance instance) {
+        Slot slot = slots.get(instance.getConfig().getId());
+        slot.spawnGeneration++;
+        slot.spawnPending = false;
+
+        ZonedDateTime next = instance.getNextSpawnTime();
+        if (next != null && next.toInstant().toEpochMilli() <= slot.lastFiredMillis) {
+            // A slot that already fired is never queued again
+            instance.calculateNextSpawn(slot.lastFiredMillis);
+            next = instance.getNextSpawnTime();
+        }
+        if (next == null || !running) return;
+
+        long spawnAt = next.toInstant().toEpochMilli();
+        long warnAt = spawnAt - instance.getConfig().getMaxSpawnWarningMinutes() * 60_000L;
+        timeline.add(new FireEntry(warnAt, FireKind.WARNING, instance, slot.spawnGeneration));
+        if (instance.getConfig().isLoadChunks() && instance.getConfig().getWarmupSeconds() > 0) {
+            long warmAt = spawnAt - instance.getConfig().getWarmupSeconds() * 1000L;
+            timeline.add(new FireEntry(warmAt, FireKind.WARMUP, instance, slot.spawnGeneration));
+        }
+        timeline.add(new FireEntry(spawnAt, FireKind.SPAWN, instance, slot.spawnGeneration));
+        arm();
+    }
+
+    /**
+     * Called from {@link BossInstance#cleanup()}. A slot that came due while the
+     * previous boss was still alive fires as soon as that boss is gone.
+     */
+    void onBossCleared(BossInstance instance) {
+        plugin.getTaskScheduler().runGlobal(() -> {
+            Slot slot = slots.get(instance.getConfig().getId());
+            if (!running || slot == null || !slot.spawnPending) return;
+
+            slot.spawnPending = false;
+            timeline.add(new FireEntry(System.currentTimeMillis(), FireKind.SPAWN, instance, slot.spawnGeneration));
+            arm();
+        });
+    }
+
+    /**
+     * Make sure a wake-up is scheduled no later than the earliest live entry.
+     */
+    private void arm() {
+        FireEntry head;
+        while ((head = timeline.peek()) != null && !isCurrent(head)) {
+            timeline.poll();
+        }
+
+        if (!running || head == null) {
+            cancelWake();
+            return;
+        }
+
+        if (wakeTask != null && wakeAt <= head.dueMillis()) return;
+
+        cancelWake();
+        long now = System.currentTimeMillis();
+        long delayTicks = (head.dueMillis() - now + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK;
+        delayTicks = Math.max(1L, Math.min(MAX_SLEEP_TICKS, delayTicks));
+
+        wakeAt = now + delayTicks * MILLIS_PER_TICK;
+        wakeTask = plugin.getTaskScheduler().runGlobalLater(this::onWake, delayTicks);
+    }
+
+    private void cancelWake() {
+        if (wakeTask != null) {
+            wakeTask.cancel();
+            wakeTask = null;
+        }
+        wakeAt = Long.MAX_VALUE;
+    }
+
+    private void onWake() {
+        wakeTask = null;
+        wakeAt = Long.MAX_VALUE;
+
+        // Anything due within the current tick fires now rather than one tick late
+        long horizon = System.currentTimeMillis() + MILLIS_PER_TICK / 2;
+        FireEntry head;
+        while (running && (head = timeline.peek()) != null && head.dueMillis() <= horizon) {
+            timeline.poll();
+            if (isCurrent(head)) {
+                fire(head);
             }
+        }
 
-            // Check if boss should spawn
-            if (instance.shouldSpawn()) {
-                // Stop warning for this boss
-                SpawnWarningTask warningTask = warningTasks.remove(bossId);
-                if (warningTask != null) {
-                    warningTask.stop();
-                }
+        arm();
+    }
 
-                instance.spawn();
-                instance.calculateNextSpawn();
+    private boolean isCurrent(FireEntry entry) {
+        Slot slot = slots.get(entry.instance().getConfig().getId());
+        return slot != null && slot.spawnGeneration == entry.generation();
+    }
+
+    private void fire(FireEntry entry) {
+        BossInstance instance = entry.instance();
+        String bossId = instance.getConfig().getId();
+
+        switch (entry.kind()) {
+            case WARNING -> startWarning(instance);
+            case WARMUP -> instance.warmArena();
+            case SPAWN -> {
+                if (instance.isAlive()) {
+                    // Previous boss still up: hold the slot until it is cleaned up
+                    slots.get(bossId).spawnPending = true;
+                    return;
+                }
+                stopWarning(bossId);
+                spawnQueue.submit(instance, null);
+                // The horizon lets a spawn fire before its slot; count from the slot, not from now
+                slots.get(bossId).lastFiredMillis = entry.dueMillis();
+                instance.calculateNextSpawn(entry.dueMillis());
+                reschedule(instance);
             }
         }
     }
 
+    private void startWarning(BossInstance instance) {
+        if (instance.isAlive() || instance.getNextSpawnTime() == null) return;
+
+        plugin.getCountdownService().begin(instance.getConfig(),
+            instance.getNextSpawnTime().toInstant().toEpochMilli());
+    }
+
+    private void stopWarning(String bossId) {
+        plugin.getCountdownService().cancel(bossId);
+    }
+
     public void forceSpawn(String bossId) {
         BossInstance instance = bossInstances.get(bossId);
         if (instance != null) {
-            SpawnWarningTask warningTask = warningTasks.remove(bossId);
-            if (warningTask != null) warningTask.stop();
-            instance.spawn();
-            instance.calculateNextSpawn();
+            plugin.getTaskScheduler().runGlobal(() -> {
+                stopWarning(bossId);
+                spawnQueue.submit(instance, null);
+                instance.calculateNextSpawn();
+                reschedule(instance);
+            });
         } else {
             plugin.getLogger().warning("Boss not found: " + bossId);
         }
     }
 
-    public void forceSpawnAll() {
-        for (Map.Entry<String, BossInstance> entry : bossInstances.entrySet()) {
-            SpawnWarningTask warningTask = warningTasks.remove(entry.getKey());
-            if (warningTask != null) warningTask.stop();
-            entry.getValue().spawn();
-            entry.getValue().calculateNextSpawn();
-        }
+    /**
+     * Queue every boss for spawning. Spawns are spread over ticks; progress is reported
+     * as each one lands (from the arena's thread).
+     */
+    public void forceSpawnAll(SpawnQueue.Progress progress) {
+        plugin.getTaskScheduler().runGlobal(() -> {
+            int total = bossInstances.size();
+            AtomicInteger done = new AtomicInteger();
+            for (Map.Entry<String, BossInstance> entry : bossInstances.entrySet()) {
+                stopWarning(entry.getKey());
+                spawnQueue.submit(entry.getValue(),
+                    progress != null ? () -> progress.onSpawned(done.incrementAndGet(), total) : null);
+                entry.getValue().calculateNextSpawn();
+                reschedule(entry.getValue());
+            }
+        });
+    }
+
+    public int getQueuedSpawns() {
+        return spawnQueue.size();
     }
 
     public void despawn(String bossId) {
@@ -137,20 +274,45 @@ public class BossScheduler {
         return new HashMap<>(bossInstances);
     }
 
+    /**
+     * Live bosses whose spawn point is in this world; walks the instances without copying them.
+     */
+    public int countAliveIn(World world) {
+        int live = 0;
+        for (BossInstance instance : bossInstances.values()) {
+            Location loc = instance.getConfig().getSpawnLocation();
+            if (instance.isAlive() && loc != null && world.equals(loc.getWorld())) {
+                live++;
+            }
+        }
+        return live;
+    }
+
     public BossInstance getBossInstance(String bossId) {
         return bossInstances.get(bossId);
     }
 
     /**
-     * Find a BossInstance by entity UUID (used by death listener).
+     * Find a BossInstance by entity UUID (used by death listener). Null for non-boss entities.
      */
-    public BossInstance findByEntityUuid(java.util.UUID uuid) {
-        for (BossInstance instance : bossInstances.values()) {
-            if (uuid.equals(instance.getEntityUuid())) {
-                return instance;
-            }
-        }
-        return null;
+    public BossInstance findByEntityUuid(UUID uuid) {
+        return entityIndex.get(uuid);
+    }
+
+    /**
+     * A tagged boss entity this scheduler does not own, e.g. left behind by a crash,
+     * a lost state file or a boss id removed from schedules.yml.
+     */
+    public boolean isOrphan(Entity entity) {
+        return BossEntityHelper.getBossId(entity) != null && !entityIndex.containsKey(entity.getUniqueId());
+    }
+
+    void indexEntity(UUID uuid, BossInstance instance) {
+        entityIndex.put(uuid, instance);
+    }
+
+    void unindexEntity(UUID uuid, BossInstance instance) {
+        entityIndex.remove(uuid, instance);
     }
 
     public boolean hasBoss(String bossId) {
@@ -163,4 +325,24 @@ public class BossScheduler {
         if (instance == null || !instance.isAlive()) return "None";
         return instance.getConfig().getMythicMobId();
     }
+
+    private enum FireKind { WARNING, WARMUP, SPAWN }
+
+    private record FireEntry(long dueMillis, FireKind kind, BossInstance instance, int generation)
+            implements Comparable<FireEntry> {
+        @Override
+        public int compareTo(FireEntry other) {
+            return Long.compare(dueMillis, other.dueMillis);
+        }
+    }
+
+    /**
+     * Per-boss bookkeeping for invalidating queued entries.
+     */
+    private static final class Slot {
+        int spawnGeneration;
+        boolean spawnPending;
+        // Due time of the last SPAWN that fired
+        long lastFiredMillis = Long.MIN_VALUE;
+    }
 }
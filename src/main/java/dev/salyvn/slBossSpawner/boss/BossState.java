@@ -0,0 +1,28 @@
+package dev.salyvn.slBossSpawner.boss;
+
+/**
+ * Lifecycle of a boss slot. Kept on the instance and moved by spawn, entity and death
+ * events, so readers never have to resolve the entity to know where a boss stands.
+ */
+public enum BossState {
+    SCHEDULED, // nothing in the world, waiting for the next spawn
+    WARMING,   // arena chunks loading ahead of a spawn
+    ALIVE,     // boss entity in a loaded chunk
+    UNLOADED,  // boss entity exists but its chunk is unloaded
+    EXPIRED,   // expire time passed, entity left standing (clearOnExpire: false)
+    DEAD;      // killed; stays until the next warmup or spawn
+
+    /**
+     * Entity is loaded and counts as the boss currently up.
+     */
+    public boolean isAlive() {
+        return this == ALIVE || this == EXPIRED;
+    }
+
+    /**
+     * Entity still exists somewhere, loaded or not.
+     */
+    public boolean hasEntity() {
+        return this == ALIVE || this == UNLOADED || this == EXPIRED;
+    }
+}
@@ -0,0 +1,205 @@
+package dev.salyvn.slBossSpawner.boss;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.scheduler.TaskHandle;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Batched leash engine shared by all leashed bosses.
+ * One task walks every leash in a single pass using squared distances and a reused
+ * Location. Bosses near their radius are checked often; bosses deep inside back off.
+ * Bosses whose last known chunk is unloaded are skipped without touching the entity.
+ * Bosses with throttle.skip-leash back off entirely while the server is over budget.
+ *
+ * On Folia a global pass cannot touch entities, so each leash runs the same adaptive
+ * check on its boss's own entity scheduler instead.
+ */
+public class LeashService {
+    private static final long PASS_PERIOD_TICKS = 5L;
+    private static final long NEAR_EDGE_INTERVAL = 5L;  // beyond 80% of the radius
+    private static final long MID_INTERVAL = 20L;       // between 50% and 80%
+    private static final long DEEP_INTERVAL = 40L;      // within 50% of the radius
+    private static final double NEAR_EDGE_RATIO_SQ = 0.8 * 0.8;
+    private static final double MID_RATIO_SQ = 0.5 * 0.5;
+    public static final String SKIPPED_METRIC = "leash.skipped";
+
+    private final SLBossSpawner plugin;
+    private final List<Leash> leashes = new CopyOnWriteArrayList<>();
+    private final List<BossInstance> lost = new ArrayList<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private TaskHandle task;
+    private long tick;
+
+    public LeashService(SLBossSpawner plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start leashing a boss to its spawn origin.
+     */
+    public void track(BossInstance instance, Entity entity, Location origin, int radius) {
+        untrack(instance);
+        if (origin.getWorld() == null || radius <= 0) return;
+
+        Leash leash = new Leash(instance, entity, origin.clone(), (double) radius * radius, tick);
+        leashes.add(leash);
+
+        if (plugin.getTaskScheduler().isFolia()) {
+            leash.regionTask = plugin.getTaskScheduler().runAtEntityTimer(entity,
+                () -> regionPass(leash), () -> untrack(instance), PASS_PERIOD_TICKS, PASS_PERIOD_TICKS);
+        } else {
+            synchronized (this) {
+                if (task == null) {
+                    task = plugin.getTaskScheduler().runGlobalTimer(this::pass, PASS_PERIOD_TICKS, PASS_PERIOD_TICKS);
+                }
+            }
+        }
+    }
+
+    public void untrack(BossInstance instance) {
+        for (Leash leash : leashes) {
+            if (leash.instance == instance) {
+                leashes.remove(leash);
+                leash.regionTask.cancel();
+            }
+        }
+        if (leashes.isEmpty()) {
+            stopTask();
+        }
+    }
+
+    public void clear() {
+        for (Leash leash : leashes) {
+            leash.regionTask.cancel();
+        }
+        leashes.clear();
+        stopTask();
+    }
+
+    private void pass() {
+        tick += PASS_PERIOD_TICKS;
+        boolean overloaded = plugin.getServerLoad().isOverBudget();
+
+        for (Leash leash : leashes) {
+            if (leash.nextCheckTick > tick) continue;
+            if (overloaded && leash.instance.getConfig().isThrottleSkipLeash()) {
+                // Shed optional work while the server is behind; check again later
+                leash.nextCheckTick = tick + DEEP_INTERVAL;
+                plugin.getMetrics().increment(SKIPPED_METRIC);
+                continue;
+            }
+            if (!check(leash, tick)) {
+                lost.add(leash.instance);
+            }
+        }
+
+        // Cleanup untracks, so it must run outside the iteration
+        for (BossInstance instance : lost) {
+            plugin.debug("Boss entity lost during leash check: " + instance.getConfig().getId());
+            instance.cleanup();
+        }
+        lost.clear();
+    }
+
+    /**
+     * Folia: one leash, run on the thread that owns the boss entity.
+     */
+    private void regionPass(Leash leash) {
+        leash.regionTick += PASS_PERIOD_TICKS;
+        if (leash.nextCheckTick <= leash.regionTick && !check(leash, leash.regionTick)) {
+            plugin.debug("Boss entity lost during leash check: " + leash.instance.getConfig().getId());
+            leash.instance.cleanup();
+        }
+    }
+
+    /**
+     * @return false if the boss entity is gone for good
+     */
+    private boolean check(Leash leash, long tick) {
+        World world = leash.origin.getWorld();
+        if (!world.isChunkLoaded(leash.chunkX, leash.chunkZ)) {
+            leash.nextCheckTick = tick + DEEP_INTERVAL;
+            return true;
+        }
+
+        Entity entity = leash.entity;
+        if (entity == null || !entity.isValid()) {
+            // Wrapper goes stale after a chunk reload; resolve the current one
+            entity = BossEntityHelper.getBukkitEntity(leash.instance.getCurrentBoss());
+            if (entity == null) return false;
+            leash.entity = entity;
+        }
+
+        if (!entity.getWorld().equals(world)) {
+            teleportBack(leash, entity, tick);
+            return true;
+        }
+
+        // Region passes run in parallel on Folia, so they must not share the scratch location
+        Location pos = plugin.getTaskScheduler().isFolia() ? entity.getLocation() : entity.getLocation(scratch);
+        leash.chunkX = pos.getBlockX() >> 4;
+        leash.chunkZ = pos.getBlockZ() >> 4;
+
+        double dx = pos.getX() - leash.origin.getX();
+        double dy = pos.getY() - leash.origin.getY();
+        double dz = pos.getZ() - leash.origin.getZ();
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+
+        if (distanceSq > leash.radiusSq) {
+            teleportBack(leash, entity, tick);
+        } else if (distanceSq > leash.radiusSq * NEAR_EDGE_RATIO_SQ) {
+            leash.nextCheckTick = tick + NEAR_EDGE_INTERVAL;
+        } else if (distanceSq > leash.radiusSq * MID_RATIO_SQ) {
+            leash.nextCheckTick = tick + MID_INTERVAL;
+        } else {
+            leash.nextCheckTick = tick + DEEP_INTERVAL;
+        }
+        return true;
+    }
+
+    private void teleportBack(Leash leash, Entity entity, long tick) {
+        entity.teleportAsync(leash.origin);
+        leash.chunkX = leash.origin.getBlockX() >> 4;
+        leash.chunkZ = leash.origin.getBlockZ() >> 4;
+        leash.nextCheckTick = tick + NEAR_EDGE_INTERVAL;
+    }
+
+    private synchronized void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Per-boss leash state.
+     */
+    private static final class Leash {
+        final BossInstance instance;
+        final Location origin;
+        final double radiusSq;
+        Entity entity;
+        long nextCheckTick;
+        int chunkX;
+        int chunkZ;
+        // Folia only: per-entity timer and its own tick counter
+        TaskHandle regionTask = TaskHandle.NONE;
+        long regionTick;
+
+        Leash(BossInstance instance, Entity entity, Location origin, double radiusSq, long nextCheckTick) {
+            this.instance = instance;
+            this.entity = entity;
+            this.origin = origin;
+            this.radiusSq = radiusSq;
+            this.nextCheckTick = nextCheckTick;
+            this.chunkX = origin.getBlockX() >> 4;
+            this.chunkZ = origin.getBlockZ() >> 4;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package dev.salyvn.slBossSpawner.boss;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.scheduler.TaskHandle;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * FIFO spawn pipeline shared by scheduled, forced and reload spawns.
+ * The queue is drained on the global thread under a per-tick time budget, so a burst
+ * spreads over several ticks instead of freezing one. Arena warmups for every queued
+ * boss start at submit time; the head only spawns once its own arena is loaded, which
+ * keeps spawns in submit order.
+ *
+ * While the server is over budget (see {@link dev.salyvn.slBossSpawner.scheduler.ServerLoad})
+ * each boss's throttle policy may hold its spawn back: up to max-delay seconds, or until its
+ * world drops under max-per-world live bosses. Held entries keep their place in line:
+ * nothing queued behind a held boss spawns before it.
+ */
+public class SpawnQueue {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    // A warmup that has not finished by then (world unloaded, lost chunk future) no longer holds the line
+    private static final long WARMUP_TIMEOUT_MILLIS = 30_000L;
+    public static final String DEFERRED_METRIC = "spawn.deferred";
+
+    private final SLBossSpawner plugin;
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private TaskHandle task;
+
+    public SpawnQueue(SLBossSpawner plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Queue a spawn. A boss already waiting keeps its place; the callback is attached to it.
+     * @param onSpawned run on the arena's thread after the spawn attempt; may be null
+     */
+    public synchronized void submit(BossInstance instance, Runnable onSpawned) {
+        for (Entry entry : queue) {
+            if (entry.instance == instance) {
+                if (onSpawned != null) entry.callbacks.add(onSpawned);
+                return;
+            }
+        }
+
+        Entry entry = new Entry(instance, instance.warmArena());
+        if (onSpawned != null) entry.callbacks.add(onSpawned);
+        queue.add(entry);
+
+        if (task == null) {
+            task = plugin.getTaskScheduler().runGlobalTimer(this::drain, 1L, 1L);
+        }
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    public synchronized void clear() {
+        queue.clear();
+        stopTask();
+    }
+
+    private void drain() {
+        long budget = plugin.getConfigManager().getSpawnTickBudgetMs() * NANOS_PER_MILLI;
+        long start = System.nanoTime();
+        boolean overloaded = plugin.getServerLoad().isOverBudget();
+        long now = System.currentTimeMillis();
+        boolean first = true;
+
+        while (true) {
+            Entry next;
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    stopTask();
+                    return;
+                }
+                // Always make progress, then stop once the budget is spent
+                if (!first && System.nanoTime() - start >= budget) return;
+
+                // Keep order: nothing overtakes a boss whose chunks are still loading or whose spawn is held
+                Entry head = queue.peek();
+                if (!head.arenaReady.isDone() && now - head.queuedAt < WARMUP_TIMEOUT_MILLIS) return;
+                if (overloaded && shouldDefer(head, now)) return;
+                next = queue.poll();
+            }
+            first = false;
+            dispatch(next);
+        }
+    }
+
+    /**
+     * Apply the boss's throttle policy. Each deferral is counted once per queued spawn.
+     */
+    private boolean shouldDefer(Entry entry, long now) {
+        BossConfig config = entry.instance.getConfig();
+
+        int cap = config.getThrottleMaxPerWorld();
+        if (cap > 0 && liveBossesIn(config.getSpawnLocation()) >= cap) {
+            recordDeferral(entry, "world-cap");
+            return true;
+        }
+
+        int maxDelay = config.getThrottleMaxDelaySeconds();
+        if (maxDelay > 0) {
+            if (entry.heldSince == 0) entry.heldSince = now;
+            if (now - entry.heldSince < maxDelay * 1000L) {
+                recordDeferral(entry, "load");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int liveBossesIn(Location loc) {
+        World world = loc != null ? loc.getWorld() : null;
+        return world != null ? plugin.getBossScheduler().countAliveIn(world) : 0;
+    }
+
+    private void recordDeferral(Entry entry, String reason) {
+        if (!entry.deferredReasons.add(reason)) return;
+
+        String bossId = entry.instance.getConfig().getId();
+        plugin.getMetrics().increment(DEFERRED_METRIC);
+        plugin.getMetrics().increment(DEFERRED_METRIC + "." + reason);
+        plugin.getMetrics().increment(DEFERRED_METRIC + ".boss." + bossId);
+        plugin.debug("Spawn of " + bossId + " deferred (" + reason + "), server over budget");
+    }
+
+    private void dispatch(Entry entry) {
+        BossInstance instance = entry.instance;
+        if (entry.arenaReady.isCompletedExceptionally()) {
+            plugin.getLogger().warning("Arena warmup failed for boss " + instance.getConfig().getId()
+                + ", spawning anyway");
+        } else if (!entry.arenaReady.isDone()) {
+            plugin.getLogger().warning("Arena warmup timed out for boss " + instance.getConfig().getId()
+                + ", spawning anyway");
+        }
+
+        Runnable spawn = () -> {
+            instance.spawn();
+            for (Runnable callback : entry.callbacks) {
+                callback.run();
+            }
+        };
+
+        Location loc = instance.getConfig().getSpawnLocation();
+        if (loc == null || loc.getWorld() == null) {
+            spawn.run(); // spawn() logs the invalid location
+        } else {
+            // Inline on Paper; on Folia the owning region runs it in parallel
+            plugin.getTaskScheduler().runAtLocation(loc, spawn);
+        }
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Progress listener for multi-boss spawns.
+     */
+    @FunctionalInterface
+    public interface Progress {
+        void onSpawned(int done, int total);
+    }
+
+    private static final class Entry {
+        final BossInstance instance;
+        final CompletableFuture<Void> arenaReady;
+        final List<Runnable> callbacks = new ArrayList<>(1);
+        final Set<String> deferredReasons = new HashSet<>(2);
+        final long queuedAt = System.currentTimeMillis();
+        long heldSince; // first load deferral, epoch millis
+
+        Entry(BossInstance instance, CompletableFuture<Void> arenaReady) {
+            this.instance = instance;
+            this.arenaReady = arenaReady;
+        }
+    }
+}
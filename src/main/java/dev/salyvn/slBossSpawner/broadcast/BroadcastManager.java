@@ -112,17 +112,25 @@ public class BroadcastManager {
     }
 
     /**
-     * Broadcast a category-specific ranking leaderboard.
+     * Broadcast a category-specific ranking leaderboard, unless the boss turns ranking chat off.
      * @param headerKey message key for the ranking header
      * @param footerKey message key for the ranking footer
      * @param rankingLines pre-formatted ranking entry lines
      */
     public void broadcastCategoryRanking(BossConfig config, String headerKey, String footerKey,
                                           java.util.List<String> rankingLines) {
-        if (rankingLines.isEmpty()) return;
+        broadcastCategoryRanking(config, headerKey, footerKey, rankingLines, Map.of());
+    }
+
+    /**
+     * As above, with extra placeholders for the header and footer.
+     */
+    public void broadcastCategoryRanking(BossConfig config, String headerKey, String footerKey,
+                                          java.util.List<String> rankingLines, Map<String, String> extra) {
+        if (!config.isRankingChat() || rankingLines.isEmpty()) return;
 
         var mm = plugin.getMessageManager();
-        Map<String, String> placeholders = new java.util.HashMap<>();
+        Map<String, String> placeholders = new java.util.HashMap<>(extra);
         placeholders.put("boss_name", config.getMythicMobId());
 
         String header = mm.getRawMessage(headerKey, placeholders);
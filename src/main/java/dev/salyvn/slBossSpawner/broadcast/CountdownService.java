@@ -0,0 +1,161 @@
+package dev.salyvn.slBossSpawner.broadcast;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossConfig;
+import dev.salyvn.slBossSpawner.scheduler.TaskHandle;
+import net.kyori.adventure.bossbar.BossBar;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Plugin-wide spawn countdown driver.
+ * A single 1-second task serves every boss inside its warning window. Remaining time is
+ * derived from the scheduled spawn instant, so countdowns never drift from the wall clock.
+ * Driven from the global thread; the boss scheduler calls in from there too.
+ */
+public class CountdownService {
+    private static final long BOSSBAR_SECONDS = 60;
+    // A countdown started slightly late still announces the threshold it just crossed
+    private static final long START_GRACE_SECONDS = 2;
+
+    private final SLBossSpawner plugin;
+    private final BroadcastManager broadcastManager;
+    private final Map<String, Countdown> countdowns = new LinkedHashMap<>();
+    private TaskHandle task;
+
+    public CountdownService(SLBossSpawner plugin, BroadcastManager broadcastManager) {
+        this.plugin = plugin;
+        this.broadcastManager = broadcastManager;
+    }
+
+    /**
+     * Start (or restart) the countdown for a boss spawning at the given wall-clock time.
+     */
+    public void begin(BossConfig config, long spawnAtMillis) {
+        cancel(config.getId());
+
+        long remaining = secondsUntil(spawnAtMillis, System.currentTimeMillis());
+        if (remaining <= 0) return;
+
+        Countdown countdown = new Countdown(config, spawnAtMillis);
+        int[] thresholds = config.getSpawnWarningThresholds();
+        while (countdown.cursor < thresholds.length
+                && thresholds[countdown.cursor] > remaining + START_GRACE_SECONDS) {
+            countdown.cursor++;
+        }
+
+        countdowns.put(config.getId(), countdown);
+        advance(countdown, remaining);
+
+        if (task == null) {
+            task = plugin.getTaskScheduler().runGlobalTimer(this::tick, 20L, 20L);
+        }
+    }
+
+    public void cancel(String bossId) {
+        Countdown countdown = countdowns.remove(bossId);
+        if (countdown != null) {
+            hideBar(countdown);
+        }
+        if (countdowns.isEmpty()) {
+            stopTask();
+        }
+    }
+
+    public void cancelAll() {
+        for (Countdown countdown : countdowns.values()) {
+            hideBar(countdown);
+        }
+        countdowns.clear();
+        stopTask();
+    }
+
+    public boolean isActive(String bossId) {
+        return countdowns.containsKey(bossId);
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        Iterator<Countdown> it = countdowns.values().iterator();
+        while (it.hasNext()) {
+            Countdown countdown = it.next();
+            long remaining = secondsUntil(countdown.spawnAtMillis, now);
+            if (remaining <= 0) {
+                hideBar(countdown);
+                it.remove();
+                continue;
+            }
+            advance(countdown, remaining);
+        }
+
+        if (countdowns.isEmpty()) {
+            stopTask();
+        }
+    }
+
+    /**
+     * Fire any thresholds crossed since the last pass and update the bossbar.
+     */
+    private void advance(Countdown countdown, long remaining) {
+        BossConfig config = countdown.config;
+        int[] thresholds = config.getSpawnWarningThresholds();
+
+        // If several thresholds were crossed in one pass (lag), announce only the latest
+        int crossed = -1;
+        while (countdown.cursor < thresholds.length && remaining <= thresholds[countdown.cursor]) {
+            crossed = thresholds[countdown.cursor];
+            countdown.cursor++;
+        }
+        if (crossed > 0) {
+            broadcastManager.broadcastSpawnWarning(config, crossed / 60);
+        }
+
+        if (config.isSpawnWarningBossbar() && remaining <= BOSSBAR_SECONDS) {
+            if (countdown.bossBar == null) {
+                countdown.bossBar = broadcastManager.createSpawnBossBar(config);
+                for (Player p : Bukkit.getOnlinePlayers()) {
+                    p.showBossBar(countdown.bossBar);
+                }
+            }
+            countdown.bossBar.progress(Math.max(0f, Math.min(1f, (float) remaining / BOSSBAR_SECONDS)));
+        }
+    }
+
+    private void hideBar(Countdown countdown) {
+        if (countdown.bossBar == null) return;
+        for (Player p : Bukkit.getOnlinePlayers()) {
+            p.hideBossBar(countdown.bossBar);
+        }
+        countdown.bossBar = null;
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static long secondsUntil(long targetMillis, long nowMillis) {
+        return Math.floorDiv(targetMillis - nowMillis + 999, 1000);
+    }
+
+    /**
+     * Countdown state for a single boss.
+     */
+    private static final class Countdown {
+        final BossConfig config;
+        final long spawnAtMillis;
+        int cursor;
+        BossBar bossBar;
+
+        Countdown(BossConfig config, long spawnAtMillis) {
+            this.config = config;
+            this.spawnAtMillis = spawnAtMillis;
+        }
+    }
+}
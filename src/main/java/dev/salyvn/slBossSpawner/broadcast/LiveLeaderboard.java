@@ -0,0 +1,221 @@
+package dev.salyvn.slBossSpawner.broadcast;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossInstance;
+import dev.salyvn.slBossSpawner.config.ConfigManager;
+import dev.salyvn.slBossSpawner.listener.CombatListener;
+import dev.salyvn.slBossSpawner.listener.ContributionTable;
+import dev.salyvn.slBossSpawner.listener.PlayerRegistry;
+import dev.salyvn.slBossSpawner.scheduler.TaskHandle;
+import dev.salyvn.slBossSpawner.utils.ColorUtils;
+import net.kyori.adventure.bossbar.BossBar;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live in-fight standings as extra boss bars, one per rank, for players inside the arena.
+ * Reads the incrementally maintained leaders of each fight's {@link ContributionTable}, so an
+ * update costs O(ranks) however many players fight. Bars are redrawn only when the table's
+ * rank version moves; otherwise an update only adjusts who sees the bars.
+ * Each arena is refreshed on its own region thread (Folia) from a single global timer.
+ * Only scheduled bosses have an arena; mobs tracked by type get no bars.
+ */
+public class LiveLeaderboard {
+    private final SLBossSpawner plugin;
+    // Boss entity UUID -> bars of that fight
+    private final Map<UUID, Display> displays = new ConcurrentHashMap<>();
+    private TaskHandle task = TaskHandle.NONE;
+
+    private int column;
+    private int ranks;
+    private double radius;
+
+    public LiveLeaderboard(SLBossSpawner plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        stop();
+
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isLiveLeaderboardEnabled()) return;
+
+        column = columnOf(config.getLiveLeaderboardCategory());
+        ranks = config.getLiveLeaderboardRanks();
+        radius = config.getLiveLeaderboardRadius();
+        long period = config.getLiveLeaderboardUpdateTicks();
+        task = plugin.getTaskScheduler().runGlobalTimer(this::update, period, period);
+    }
+
+    public void stop() {
+        task.cancel();
+        task = TaskHandle.NONE;
+        for (Display display : displays.values()) {
+            display.hideAll();
+        }
+        displays.clear();
+    }
+
+    private void update() {
+        CombatListener combat = plugin.getCombatListener();
+
+        Iterator<Map.Entry<UUID, Display>> it = displays.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Display> entry = it.next();
+            if (!combat.isFighting(entry.getKey())) {
+                entry.getValue().hideAll();
+                it.remove();
+            }
+        }
+
+        for (UUID bossUuid : combat.getActiveFights()) {
+            BossInstance instance = plugin.getBossScheduler().findByEntityUuid(bossUuid);
+            ContributionTable table = combat.getTable(bossUuid);
+            if (instance == null || table == null) continue;
+
+            Location center = instance.getConfig().getSpawnLocation();
+            if (center == null || center.getWorld() == null) continue;
+
+            Display display = displays.computeIfAbsent(bossUuid, k -> new Display());
+            plugin.getTaskScheduler().runAtLocation(center, () -> display.refresh(bossUuid, center));
+        }
+    }
+
+    private static int columnOf(String category) {
+        return switch (category.toLowerCase()) {
+            case "tank" -> ContributionTable.TANK;
+            case "support" -> ContributionTable.SUPPORT;
+            default -> ContributionTable.DAMAGE;
+        };
+    }
+
+    private static BossBar.Color colorOf(int column) {
+        return switch (column) {
+            case ContributionTable.TANK -> BossBar.Color.BLUE;
+            case ContributionTable.SUPPORT -> BossBar.Color.GREEN;
+            default -> BossBar.Color.RED;
+        };
+    }
+
+    /**
+     * Bars and viewers of one fight.
+     */
+    private final class Display {
+        private final BossBar[] bars = new BossBar[ranks];
+        private final Set<UUID> viewers = new HashSet<>();
+        private long shownVersion = -1;
+        private int shownBars;
+        // Set once the fight is over, so a refresh already queued on the region does not re-show bars
+        private boolean closed;
+
+        synchronized void refresh(UUID bossUuid, Location center) {
+            if (closed) return;
+            // Looked up on the region thread: an ended fight's table is recycled for the next one
+            ContributionTable table = plugin.getCombatListener().getTable(bossUuid);
+            if (table == null) return;
+
+            long version = table.rankVersion(column);
+            if (version != shownVersion) {
+                shownVersion = version;
+                redraw(table);
+            }
+            updateViewers(center);
+        }
+
+        private void redraw(ContributionTable table) {
+            List<ContributionTable.Entry> leaders = table.leaders(column);
+            double total = table.total(column);
+            int count = Math.min(bars.length, leaders.size());
+
+            var mm = plugin.getMessageManager();
+            PlayerRegistry registry = plugin.getPlayerRegistry();
+            for (int i = 0; i < count; i++) {
+                ContributionTable.Entry entry = leaders.get(i);
+                double share = total > 0 ? entry.value() / total : 0;
+
+                Map<String, String> ph = new HashMap<>();
+                ph.put("rank", String.valueOf(i + 1));
+                ph.put("player_name", registry.getName(entry.playerHandle()));
+                ph.put("value", String.format("%.1f", entry.value()));
+                ph.put("percent", String.format("%.1f", share * 100));
+                var name = ColorUtils.toComponent(mm.getRawMessage("live-leaderboard-entry", ph));
+                float progress = (float) Math.max(0, Math.min(1, share));
+
+                if (bars[i] == null) {
+                    bars[i] = BossBar.bossBar(name, progress, colorOf(column), BossBar.Overlay.PROGRESS);
+                } else {
+                    bars[i].name(name);
+                    bars[i].progress(progress);
+                }
+            }
+
+            // Bars are shown in rank order, so new ranks go below the existing ones
+            for (int i = shownBars; i < count; i++) {
+                for (UUID viewer : viewers) {
+                    Player player = Bukkit.getPlayer(viewer);
+                    if (player != null) player.showBossBar(bars[i]);
+                }
+            }
+            for (int i = count; i < shownBars; i++) {
+                for (UUID viewer : viewers) {
+                    Player player = Bukkit.getPlayer(viewer);
+                    if (player != null) player.hideBossBar(bars[i]);
+                }
+            }
+            shownBars = count;
+        }
+
+        private void updateViewers(Location center) {
+            World world = center.getWorld();
+            Set<UUID> inside = new HashSet<>();
+            for (Player player : world.getNearbyPlayers(center, radius)) {
+                inside.add(player.getUniqueId());
+                if (viewers.add(player.getUniqueId())) {
+                    show(player);
+                }
+            }
+
+            Iterator<UUID> it = viewers.iterator();
+            while (it.hasNext()) {
+                UUID viewer = it.next();
+                if (inside.contains(viewer)) continue;
+
+                it.remove();
+                Player player = Bukkit.getPlayer(viewer);
+                if (player != null) hide(player);
+            }
+        }
+
+        synchronized void hideAll() {
+            closed = true;
+            for (UUID viewer : viewers) {
+                Player player = Bukkit.getPlayer(viewer);
+                if (player != null) hide(player);
+            }
+            viewers.clear();
+        }
+
+        private void show(Player player) {
+            for (int i = 0; i < shownBars; i++) {
+                player.showBossBar(bars[i]);
+            }
+        }
+
+        private void hide(Player player) {
+            for (int i = 0; i < shownBars; i++) {
+                player.hideBossBar(bars[i]);
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package dev.salyvn.slBossSpawner.commands;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
 import dev.salyvn.slBossSpawner.boss.BossInstance;
+import dev.salyvn.slBossSpawner.boss.SpawnQueue;
+import dev.salyvn.slBossSpawner.scheduler.ServerLoad;
 import dev.salyvn.slBossSpawner.config.MessageManager;
 import dev.salyvn.slBossSpawner.utils.TimeUtils;
 import org.bukkit.command.Command;
@@ -47,8 +49,20 @@ public class BossCommand implements CommandExecutor, TabCompleter {
                 }
 
                 if (args.length < 2) {
-                    plugin.getBossScheduler().forceSpawnAll();
-                    sender.sendMessage(messageManager.getMessage("boss-spawned-all"));
+                    int total = plugin.getBossScheduler().getAllBossInstances().size();
+                    sender.sendMessage(messageManager.getMessage("boss-spawn-queued",
+                        Map.of("count", String.valueOf(total))));
+
+                    // Report roughly every 25% so large batches don't flood chat
+                    int step = Math.max(1, total / 4);
+                    plugin.getBossScheduler().forceSpawnAll((done, count) -> {
+                        if (done == count) {
+                            sender.sendMessage(messageManager.getMessage("boss-spawned-all"));
+                        } else if (done % step == 0) {
+                            sender.sendMessage(messageManager.getMessage("boss-spawn-progress",
+                                Map.of("done", String.valueOf(done), "total", String.valueOf(count))));
+                        }
+                    });
                 } else {
                     String bossId = args[1];
                     plugin.getBossScheduler().forceSpawn(bossId);
@@ -143,6 +157,12 @@ public class BossCommand implements CommandExecutor, TabCompleter {
 
         sender.sendMessage(messageManager.getMessage("info-header"));
 
+        ServerLoad load = plugin.getServerLoad();
+        Map<String, String> loadPlaceholders = new HashMap<>();
+        loadPlaceholders.put("mspt", load.getMspt() >= 0 ? String.format("%.1f", load.getMspt()) : "N/A");
+        loadPlaceholders.put("tps", load.getTps() >= 0 ? String.format("%.1f", load.getTps()) : "N/A");
+        sender.sendMessage(messageManager.getMessage("info-load", loadPlaceholders));
+
         for (Map.Entry<String, BossInstance> entry : instances.entrySet()) {
             String bossId = entry.getKey();
             BossInstance instance = entry.getValue();
@@ -164,10 +184,16 @@ public class BossCommand implements CommandExecutor, TabCompleter {
             String expireTimeStr = secondsUntilExpire >= 0 ? TimeUtils.formatDuration(secondsUntilExpire) : "N/A";
             placeholders.put("expire_time", expireTimeStr);
 
+            long deferrals = plugin.getMetrics().get(SpawnQueue.DEFERRED_METRIC + ".boss." + bossId);
+            placeholders.put("deferrals", String.valueOf(deferrals));
+
             sender.sendMessage(messageManager.getMessage("info-boss-header", placeholders));
             sender.sendMessage(messageManager.getMessage("info-current", placeholders));
             sender.sendMessage(messageManager.getMessage("info-next", placeholders));
             sender.sendMessage(messageManager.getMessage("info-expire", placeholders));
+            if (deferrals > 0) {
+                sender.sendMessage(messageManager.getMessage("info-deferred", placeholders));
+            }
         }
 
         sender.sendMessage(messageManager.getMessage("info-footer"));
@@ -1,6 +1,7 @@
 package dev.salyvn.slBossSpawner.config;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.listener.ContributionTable;
 import org.bukkit.configuration.file.FileConfiguration;
 
 public class ConfigManager {
@@ -10,6 +11,17 @@ public class ConfigManager {
     private String prefix;
     private boolean debug;
     private String language;
+    private long spawnTickBudgetMs;
+    private double throttleMaxMspt;
+    private double throttleMinTps;
+    private long auditIntervalSeconds;
+    private boolean coalesceHits;
+    private int coalesceBufferSize;
+    private boolean liveLeaderboardEnabled;
+    private String liveLeaderboardCategory;
+    private int liveLeaderboardRanks;
+    private double liveLeaderboardRadius;
+    private long liveLeaderboardUpdateTicks;
 
     public ConfigManager(SLBossSpawner plugin) {
         this.plugin = plugin;
@@ -24,11 +36,34 @@ public class ConfigManager {
         prefix = config.getString("prefix", "&#FF6B6B[&#FFD93DSLBossSpawner&#FF6B6B] ");
         debug = config.getBoolean("debug", false);
         language = config.getString("language", "en");
+        spawnTickBudgetMs = Math.max(1L, config.getLong("spawn-queue.tick-budget-ms", 5L));
+        throttleMaxMspt = config.getDouble("throttle.max-mspt", 45.0);
+        throttleMinTps = config.getDouble("throttle.min-tps", 18.0);
+        auditIntervalSeconds = Math.max(0L, config.getLong("audit.interval-seconds", 300L));
+        coalesceHits = config.getBoolean("combat.coalesce-hits", false);
+        coalesceBufferSize = Math.max(64, config.getInt("combat.coalesce-buffer-size", 4096));
+        liveLeaderboardEnabled = config.getBoolean("live-leaderboard.enabled", true);
+        liveLeaderboardCategory = config.getString("live-leaderboard.category", "damage");
+        liveLeaderboardRanks = Math.max(1, Math.min(ContributionTable.LEADER_SLOTS,
+            config.getInt("live-leaderboard.ranks", 3)));
+        liveLeaderboardRadius = Math.max(1.0, config.getDouble("live-leaderboard.radius", 48.0));
+        liveLeaderboardUpdateTicks = Math.max(5L, config.getLong("live-leaderboard.update-ticks", 20L));
     }
 
     public String getPrefix() { return prefix; }
     public boolean isDebug() { return debug; }
     public String getLanguage() { return language; }
+    public long getSpawnTickBudgetMs() { return spawnTickBudgetMs; }
+    public double getThrottleMaxMspt() { return throttleMaxMspt; }
+    public double getThrottleMinTps() { return throttleMinTps; }
+    public long getAuditIntervalSeconds() { return auditIntervalSeconds; }
+    public boolean isCoalesceHits() { return coalesceHits; }
+    public int getCoalesceBufferSize() { return coalesceBufferSize; }
+    public boolean isLiveLeaderboardEnabled() { return liveLeaderboardEnabled; }
+    public String getLiveLeaderboardCategory() { return liveLeaderboardCategory; }
+    public int getLiveLeaderboardRanks() { return liveLeaderboardRanks; }
+    public double getLiveLeaderboardRadius() { return liveLeaderboardRadius; }
+    public long getLiveLeaderboardUpdateTicks() { return liveLeaderboardUpdateTicks; }
 
     public void reload() {
         loadConfig();
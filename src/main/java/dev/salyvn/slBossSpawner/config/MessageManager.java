@@ -87,6 +87,14 @@ public class MessageManager {
         return ColorUtils.colorize(raw);
     }
 
+    /**
+     * Whether a message is set and not blank; optional lines are skipped otherwise.
+     */
+    public boolean hasMessage(String key) {
+        String raw = messages.get(key);
+        return raw != null && !raw.isBlank();
+    }
+
     /**
      * Get raw message without prefix (for broadcast titles, subtitles, etc.).
      */
@@ -4,19 +4,29 @@ import dev.salyvn.slBossSpawner.SLBossSpawner;
 import dev.salyvn.slBossSpawner.boss.BossConfig;
 import dev.salyvn.slBossSpawner.boss.BossConfig.ItemRewardConfig;
 import dev.salyvn.slBossSpawner.boss.BossConfig.RewardTierConfig;
+import dev.salyvn.slBossSpawner.listener.DamageBucket;
+import dev.salyvn.slBossSpawner.reward.SupportScoring;
+import dev.salyvn.slBossSpawner.utils.CronSchedule;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.potion.PotionEffectType;
 
 import java.io.File;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 public class ScheduleManager {
     private final SLBossSpawner plugin;
     private final Map<String, BossConfig> bossConfigs = new HashMap<>();
+    // MythicMobs internal name -> reward profile of a type tracked outside schedules
+    private final Map<String, BossConfig> trackedMobConfigs = new HashMap<>();
 
     public ScheduleManager(SLBossSpawner plugin) {
         this.plugin = plugin;
@@ -49,6 +59,8 @@ public class ScheduleManager {
             int expireSeconds = bossSection.getInt("expire", 3600);
             boolean clearOnExpire = bossSection.getBoolean("clearOnExpire", true);
             List<String> scheduleTimes = bossSection.getStringList("time-settings.time");
+            List<CronSchedule> schedules = compileSchedules(bossId, scheduleTimes,
+                bossSection.getStringList("time-settings.cron"));
 
             String zoneStr = bossSection.getString("time-settings.zone", "Asia/Ho_Chi_Minh");
             ZoneId timeZone;
@@ -73,9 +85,15 @@ public class ScheduleManager {
 
             int leashRadius = bossSection.getInt("location.leashRadius", 10);
             boolean loadChunks = bossSection.getBoolean("loadChunks", true);
+            int warmupSeconds = Math.max(0, bossSection.getInt("warmupSeconds", 30));
+
+            // Load throttle policies
+            int throttleMaxDelay = Math.max(0, bossSection.getInt("throttle.max-delay", 0));
+            int throttleMaxPerWorld = Math.max(0, bossSection.getInt("throttle.max-per-world", 0));
+            boolean throttleSkipLeash = bossSection.getBoolean("throttle.skip-leash", false);
 
             // Broadcast config
-            boolean deathChat = true, deathTitle = true;
+            boolean deathChat = true, deathTitle = true, rankingChat = true;
             boolean spawnWarningChat = true, spawnWarningTitle = true, spawnWarningBossbar = true;
             List<Integer> spawnWarningIntervals = List.of(30, 15, 5, 1);
 
@@ -83,6 +101,7 @@ public class ScheduleManager {
             if (broadcastSection != null) {
                 deathChat = broadcastSection.getBoolean("death.chat", true);
                 deathTitle = broadcastSection.getBoolean("death.title", true);
+                rankingChat = broadcastSection.getBoolean("ranking.chat", true);
                 spawnWarningChat = broadcastSection.getBoolean("spawn-warning.chat", true);
                 spawnWarningTitle = broadcastSection.getBoolean("spawn-warning.title", true);
                 spawnWarningBossbar = broadcastSection.getBoolean("spawn-warning.bossbar", true);
@@ -94,79 +113,257 @@ public class ScheduleManager {
             }
 
             // --- Reward config from reward.yml ---
-            boolean rewardsEnabled = false;
-            boolean itemProtectionEnabled = false;
-            int itemProtectionDuration = 60;
-            String itemProtectionExpireAction = "public";
-            double lastHitMultiplier = 1.0;
-            double globalMultiplier = 1.0;
-            boolean multiplyDropTables = false;
-
-            boolean damageRewardsEnabled = false;
-            List<RewardTierConfig> damageRewardTiers = new ArrayList<>();
-            boolean tankRewardsEnabled = false;
-            List<RewardTierConfig> tankRewardTiers = new ArrayList<>();
-            boolean supportRewardsEnabled = false;
-            List<RewardTierConfig> supportRewardTiers = new ArrayList<>();
-
-            ConfigurationSection rewardSection = rewardConfig.getConfigurationSection(bossId);
-            if (rewardSection != null) {
-                rewardsEnabled = rewardSection.getBoolean("enabled", false);
-                itemProtectionEnabled = rewardSection.getBoolean("item-protection.enabled", false);
-                itemProtectionDuration = rewardSection.getInt("item-protection.duration", 60);
-                itemProtectionExpireAction = rewardSection.getString("item-protection.expire-action", "public");
-                lastHitMultiplier = rewardSection.getDouble("last-hit-bonus.multiplier", 1.0);
-                globalMultiplier = rewardSection.getDouble("global-multiplier", 1.0);
-                multiplyDropTables = rewardSection.getBoolean("multiply-drop-tables", false);
-
-                // Parse per-category rewards
-                // Damage category
-                ConfigurationSection damageSection = rewardSection.getConfigurationSection("damage");
-                if (damageSection != null) {
-                    damageRewardsEnabled = damageSection.getBoolean("enabled", true);
-                    damageRewardTiers = parseTiers(damageSection.getConfigurationSection("tiers"));
-                } else {
-                    // Backward compat: parse old flat "tiers" as damage tiers
-                    ConfigurationSection legacyTiers = rewardSection.getConfigurationSection("tiers");
-                    if (legacyTiers != null) {
-                        damageRewardsEnabled = true;
-                        damageRewardTiers = parseTiers(legacyTiers);
-                    }
-                }
-
-                // Tank category
-                ConfigurationSection tankSection = rewardSection.getConfigurationSection("tank");
-                if (tankSection != null) {
-                    tankRewardsEnabled = tankSection.getBoolean("enabled", true);
-                    tankRewardTiers = parseTiers(tankSection.getConfigurationSection("tiers"));
-                }
-
-                // Support category
-                ConfigurationSection supportSection = rewardSection.getConfigurationSection("support");
-                if (supportSection != null) {
-                    supportRewardsEnabled = supportSection.getBoolean("enabled", true);
-                    supportRewardTiers = parseTiers(supportSection.getConfigurationSection("tiers"));
-                }
-            }
+            RewardSettings rewards = parseRewards(bossId, rewardConfig.getConfigurationSection(bossId));
 
             BossConfig config = new BossConfig(
                 bossId, mythicMobId, expireSeconds, clearOnExpire,
-                scheduleTimes, timeZone, spawnLocation, leashRadius, loadChunks,
-                deathChat, deathTitle,
+                scheduleTimes, schedules, timeZone, spawnLocation, leashRadius, loadChunks, warmupSeconds,
+                throttleMaxDelay, throttleMaxPerWorld, throttleSkipLeash,
+                deathChat, deathTitle, rankingChat,
                 spawnWarningChat, spawnWarningTitle, spawnWarningBossbar,
                 spawnWarningIntervals,
-                rewardsEnabled, itemProtectionEnabled, itemProtectionDuration,
-                itemProtectionExpireAction, lastHitMultiplier, globalMultiplier,
-                multiplyDropTables,
-                damageRewardsEnabled, damageRewardTiers,
-                tankRewardsEnabled, tankRewardTiers,
-                supportRewardsEnabled, supportRewardTiers
+                rewards.enabled(), rewards.itemProtectionEnabled(), rewards.itemProtectionDuration(),
+                rewards.itemProtectionExpireAction(), rewards.lastHitMultiplier(), rewards.globalMultiplier(),
+                rewards.multiplyDropTables(),
+                rewards.damageEnabled(), rewards.damageTiers(), rewards.causeTiers(),
+                rewards.tankEnabled(), rewards.tankTiers(),
+                rewards.supportEnabled(), rewards.supportTiers(),
+                rewards.supportScoring(), rewards.allySupportScoring(), rewards.supportHealWeight()
             );
 
             bossConfigs.put(bossId, config);
         }
 
         plugin.getLogger().info("Loaded " + bossConfigs.size() + " boss configurations");
+
+        loadTrackedMobs(rewardConfig);
+    }
+
+    /**
+     * MythicMobs types from config.yml {@code tracked-mobs}, rewarded through a reward.yml
+     * profile whatever spawns them. Each entry is a profile name, or a section with
+     * reward-profile and broadcast; the profile defaults to the type's own name.
+     */
+    private void loadTrackedMobs(YamlConfiguration rewardConfig) {
+        trackedMobConfigs.clear();
+
+        ConfigurationSection trackedSection = plugin.getConfig().getConfigurationSection("tracked-mobs");
+        if (trackedSection == null) return;
+
+        Set<String> scheduledTypes = new HashSet<>();
+        for (BossConfig config : bossConfigs.values()) {
+            scheduledTypes.add(config.getMythicMobId());
+        }
+
+        for (String mobType : trackedSection.getKeys(false)) {
+            ConfigurationSection mobSection = trackedSection.getConfigurationSection(mobType);
+            String profile = mobSection != null
+                ? mobSection.getString("reward-profile", mobType)
+                : trackedSection.getString(mobType, mobType);
+            boolean broadcast = mobSection != null && mobSection.getBoolean("broadcast", false);
+
+            ConfigurationSection rewardSection = rewardConfig.getConfigurationSection(profile);
+            if (rewardSection == null) {
+                plugin.getLogger().warning("Reward profile '" + profile + "' for tracked mob '" + mobType
+                    + "' not found in reward.yml, tracking without rewards");
+            }
+            if (scheduledTypes.contains(mobType)) {
+                plugin.getLogger().info("Tracked mob '" + mobType + "' is also scheduled; scheduled spawns keep their own rewards");
+            }
+            RewardSettings rewards = parseRewards(mobType, rewardSection);
+
+            // No schedule, location or leash: the fight lasts as long as the mob
+            BossConfig config = new BossConfig(
+                mobType, mobType, 0, false,
+                List.of(), List.of(), ZoneId.systemDefault(), null, 0, false, 0,
+                0, 0, false,
+                broadcast, broadcast, broadcast,
+                false, false, false,
+                List.of(),
+                rewards.enabled(), rewards.itemProtectionEnabled(), rewards.itemProtectionDuration(),
+                rewards.itemProtectionExpireAction(), rewards.lastHitMultiplier(), rewards.globalMultiplier(),
+                rewards.multiplyDropTables(),
+                rewards.damageEnabled(), rewards.damageTiers(), rewards.causeTiers(),
+                rewards.tankEnabled(), rewards.tankTiers(),
+                rewards.supportEnabled(), rewards.supportTiers(),
+                rewards.supportScoring(), rewards.allySupportScoring(), rewards.supportHealWeight()
+            );
+            trackedMobConfigs.put(mobType, config);
+        }
+
+        if (!trackedMobConfigs.isEmpty()) {
+            plugin.getLogger().info("Tracking " + trackedMobConfigs.size() + " MythicMobs type(s) outside schedules");
+        }
+    }
+
+    /**
+     * Reward settings of one reward.yml section; a missing section means no rewards.
+     */
+    private RewardSettings parseRewards(String bossId, ConfigurationSection rewardSection) {
+        boolean rewardsEnabled = false;
+        boolean itemProtectionEnabled = false;
+        int itemProtectionDuration = 60;
+        String itemProtectionExpireAction = "public";
+        double lastHitMultiplier = 1.0;
+        double globalMultiplier = 1.0;
+        boolean multiplyDropTables = false;
+
+        boolean damageRewardsEnabled = false;
+        List<RewardTierConfig> damageRewardTiers = new ArrayList<>();
+        Map<DamageBucket, List<RewardTierConfig>> causeRewardTiers = Map.of();
+        boolean tankRewardsEnabled = false;
+        List<RewardTierConfig> tankRewardTiers = new ArrayList<>();
+        boolean supportRewardsEnabled = false;
+        List<RewardTierConfig> supportRewardTiers = new ArrayList<>();
+        SupportScoring supportScoring = null;
+        SupportScoring allySupportScoring = null;
+        double supportHealWeight = SupportScoring.DEFAULT_HEAL_WEIGHT;
+
+        if (rewardSection != null) {
+            rewardsEnabled = rewardSection.getBoolean("enabled", false);
+            itemProtectionEnabled = rewardSection.getBoolean("item-protection.enabled", false);
+            itemProtectionDuration = rewardSection.getInt("item-protection.duration", 60);
+            itemProtectionExpireAction = rewardSection.getString("item-protection.expire-action", "public");
+            lastHitMultiplier = rewardSection.getDouble("last-hit-bonus.multiplier", 1.0);
+            globalMultiplier = rewardSection.getDouble("global-multiplier", 1.0);
+            multiplyDropTables = rewardSection.getBoolean("multiply-drop-tables", false);
+
+            // Parse per-category rewards
+            // Damage category
+            ConfigurationSection damageSection = rewardSection.getConfigurationSection("damage");
+            if (damageSection != null) {
+                damageRewardsEnabled = damageSection.getBoolean("enabled", true);
+                damageRewardTiers = parseTiers(damageSection.getConfigurationSection("tiers"));
+                causeRewardTiers = parseCauseTiers(bossId, damageSection.getConfigurationSection("by-cause"));
+            } else {
+                // Backward compat: parse old flat "tiers" as damage tiers
+                ConfigurationSection legacyTiers = rewardSection.getConfigurationSection("tiers");
+                if (legacyTiers != null) {
+                    damageRewardsEnabled = true;
+                    damageRewardTiers = parseTiers(legacyTiers);
+                }
+            }
+
+            // Tank category
+            ConfigurationSection tankSection = rewardSection.getConfigurationSection("tank");
+            if (tankSection != null) {
+                tankRewardsEnabled = tankSection.getBoolean("enabled", true);
+                tankRewardTiers = parseTiers(tankSection.getConfigurationSection("tiers"));
+            }
+
+            // Support category
+            ConfigurationSection supportSection = rewardSection.getConfigurationSection("support");
+            if (supportSection != null) {
+                supportRewardsEnabled = supportSection.getBoolean("enabled", true);
+                supportRewardTiers = parseTiers(supportSection.getConfigurationSection("tiers"));
+                if (supportSection.isConfigurationSection("scoring")) {
+                    supportScoring = compileSupportScoring(bossId, supportSection.getConfigurationSection("scoring"));
+                }
+                if (supportSection.isConfigurationSection("ally-scoring")) {
+                    allySupportScoring = compileSupportScoring(bossId, supportSection.getConfigurationSection("ally-scoring"));
+                }
+                supportHealWeight = Math.max(0, supportSection.getDouble("heal-weight", SupportScoring.DEFAULT_HEAL_WEIGHT));
+            }
+        }
+        if (supportScoring == null) {
+            supportScoring = SupportScoring.defaults();
+        }
+        if (allySupportScoring == null) {
+            allySupportScoring = SupportScoring.allyDefaults();
+        }
+
+        return new RewardSettings(rewardsEnabled, itemProtectionEnabled, itemProtectionDuration,
+            itemProtectionExpireAction, lastHitMultiplier, globalMultiplier, multiplyDropTables,
+            damageRewardsEnabled, damageRewardTiers, causeRewardTiers, tankRewardsEnabled, tankRewardTiers,
+            supportRewardsEnabled, supportRewardTiers, supportScoring, allySupportScoring, supportHealWeight);
+    }
+
+    /**
+     * Compile daily "HH:mm" times and cron expressions into bitset schedules.
+     * Invalid entries are skipped with a warning instead of failing at spawn time.
+     */
+    private List<CronSchedule> compileSchedules(String bossId, List<String> times, List<String> cronExpressions) {
+        List<CronSchedule> schedules = new ArrayList<>();
+
+        for (String timeStr : times) {
+            try {
+                schedules.add(CronSchedule.daily(LocalTime.parse(timeStr)));
+            } catch (DateTimeParseException e) {
+                plugin.getLogger().warning("Invalid time '" + timeStr + "' for boss '" + bossId + "', skipping");
+            }
+        }
+
+        for (String expression : cronExpressions) {
+            try {
+                schedules.add(CronSchedule.parse(expression));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid cron '" + expression + "' for boss '" + bossId + "': "
+                    + e.getMessage());
+            }
+        }
+
+        return schedules;
+    }
+
+    /**
+     * Compile per-effect support rules. Each key is an effect name, mapped either to a plain
+     * weight or to a section with weight, max-seconds and amplifier-curve.
+     * Unknown effects are skipped with a warning.
+     */
+    private SupportScoring compileSupportScoring(String bossId, ConfigurationSection scoringSection) {
+        Map<PotionEffectType, SupportScoring.Rule> rules = new LinkedHashMap<>();
+
+        for (String effectKey : scoringSection.getKeys(false)) {
+            NamespacedKey key = NamespacedKey.fromString(effectKey.toLowerCase(Locale.ROOT));
+            PotionEffectType type = key != null ? Registry.EFFECT.get(key) : null;
+            if (type == null) {
+                plugin.getLogger().warning("Unknown effect '" + effectKey + "' in support scoring for boss '"
+                    + bossId + "', skipping");
+                continue;
+            }
+
+            double defaultCap = type.isInstant() ? SupportScoring.DEFAULT_INSTANT_SECONDS : 0;
+            ConfigurationSection ruleSection = scoringSection.getConfigurationSection(effectKey);
+            if (ruleSection == null) {
+                rules.put(type, new SupportScoring.Rule(scoringSection.getDouble(effectKey), defaultCap, new double[0]));
+                continue;
+            }
+
+            double[] curve = ruleSection.getDoubleList("amplifier-curve").stream()
+                .mapToDouble(Double::doubleValue).toArray();
+            rules.put(type, new SupportScoring.Rule(
+                ruleSection.getDouble("weight", 1.0),
+                Math.max(0, ruleSection.getDouble("max-seconds", defaultCap)),
+                curve));
+        }
+
+        return SupportScoring.compile(rules);
+    }
+
+    /**
+     * Parse damage.by-cause: one ranking with its own tiers per damage cause bucket.
+     * Causes that are disabled or have no tiers are left out.
+     */
+    private Map<DamageBucket, List<RewardTierConfig>> parseCauseTiers(String bossId, ConfigurationSection byCause) {
+        if (byCause == null) return Map.of();
+
+        Map<DamageBucket, List<RewardTierConfig>> tiers = new EnumMap<>(DamageBucket.class);
+        for (String key : byCause.getKeys(false)) {
+            DamageBucket bucket = DamageBucket.byKey(key);
+            ConfigurationSection causeSection = byCause.getConfigurationSection(key);
+            if (bucket == null || causeSection == null) {
+                plugin.getLogger().warning("Unknown damage cause '" + key + "' in damage.by-cause of '" + bossId
+                    + "', expected one of melee, projectile, magic, explosion, pet, other");
+                continue;
+            }
+            if (!causeSection.getBoolean("enabled", true)) continue;
+
+            List<RewardTierConfig> causeTiers = parseTiers(causeSection.getConfigurationSection("tiers"));
+            if (!causeTiers.isEmpty()) {
+                tiers.put(bucket, causeTiers);
+            }
+        }
+        return Collections.unmodifiableMap(tiers);
     }
 
     /**
@@ -208,6 +405,13 @@ public class ScheduleManager {
         return tiers;
     }
 
+    /**
+     * Tracked MythicMobs types by internal name, each with its reward profile.
+     */
+    public Map<String, BossConfig> getTrackedMobConfigs() {
+        return Map.copyOf(trackedMobConfigs);
+    }
+
     public Map<String, BossConfig> getAllBossConfigs() {
         return new HashMap<>(bossConfigs);
     }
@@ -219,4 +423,14 @@ public class ScheduleManager {
     public void reload() {
         loadAll();
     }
+
+    private record RewardSettings(boolean enabled, boolean itemProtectionEnabled, int itemProtectionDuration,
+                                  String itemProtectionExpireAction, double lastHitMultiplier,
+                                  double globalMultiplier, boolean multiplyDropTables,
+                                  boolean damageEnabled, List<RewardTierConfig> damageTiers,
+                                  Map<DamageBucket, List<RewardTierConfig>> causeTiers,
+                                  boolean tankEnabled, List<RewardTierConfig> tankTiers,
+                                  boolean supportEnabled, List<RewardTierConfig> supportTiers,
+                                  SupportScoring supportScoring, SupportScoring allySupportScoring,
+                                  double supportHealWeight) {}
 }
@@ -1,6 +1,8 @@
 package dev.salyvn.slBossSpawner.listener;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossConfig;
+import dev.salyvn.slBossSpawner.boss.BossEntityHelper;
 import dev.salyvn.slBossSpawner.boss.BossInstance;
 import dev.salyvn.slBossSpawner.boss.BossScheduler;
 import dev.salyvn.slBossSpawner.reward.RewardManager;
@@ -10,11 +12,15 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
- * Listens for MythicMobDeathEvent to detect boss deaths.
- * Builds damage, tank, and support results, then distributes rewards per category.
+ * Listens for MythicMobDeathEvent to detect boss deaths, scheduled or tracked by type.
+ * Builds damage (overall and per configured cause), tank, and support results,
+ * then distributes rewards per category.
  */
 public class BossDeathListener implements Listener {
     private final SLBossSpawner plugin;
@@ -41,32 +47,64 @@ public class BossDeathListener implements Listener {
         BossScheduler scheduler = plugin.getBossScheduler();
         BossInstance instance = scheduler.findByEntityUuid(entityUuid);
 
-        if (instance == null) return;
+        if (instance == null) {
+            // Mobs tracked by type are settled with their reward profile
+            BossConfig tracked = plugin.getTrackedMobListener().release(entityUuid);
+            if (tracked != null) {
+                plugin.debug("MythicMobDeathEvent fired for tracked mob: " + tracked.getId());
+                settle(tracked, entityUuid, event);
+                plugin.getCombatListener().endFight(entityUuid);
+                return;
+            }
+
+            // Non-boss deaths stop at the index lookup; the tag is only read for debugging
+            if (plugin.getConfigManager().isDebug() && scheduler.isOrphan(entity)) {
+                plugin.debug("Orphaned boss entity died without an owner: " + entityUuid
+                    + " (" + BossEntityHelper.getBossId(entity) + "), no rewards");
+            }
+            return;
+        }
 
         plugin.debug("MythicMobDeathEvent fired for boss: " + instance.getConfig().getId());
 
-        // Build all results before cleanup
-        DamageResult damageResult = damageTracker.buildResult(entityUuid);
-        TankResult tankResult = tankTracker.buildResult(entityUuid);
-        SupportResult supportResult = supportTracker.buildResult(entityUuid);
+        settle(instance.getConfig(), entityUuid, event);
+
+        // Clean up boss instance
+        instance.onDeath();
+
+        // Save state (remove dead boss)
+        plugin.getBossStateManager().requestSave();
+    }
+
+    /**
+     * Build the fight's results, broadcast the death and hand out rewards.
+     */
+    private void settle(BossConfig config, UUID entityUuid, MythicMobDeathEvent event) {
+        // Build all results before cleanup, with any hits still buffered this tick applied
+        plugin.getCombatListener().flush();
+        // Rank only as deep as the broadcast and reward tiers need
+        DamageResult damageResult = damageTracker.buildResult(entityUuid,
+            RewardManager.rankingDepth(config.getDamageRewardTiers()));
+        Map<DamageBucket, DamageResult> causeResults = new EnumMap<>(DamageBucket.class);
+        for (Map.Entry<DamageBucket, List<BossConfig.RewardTierConfig>> cause : config.getCauseRewardTiers().entrySet()) {
+            causeResults.put(cause.getKey(), damageTracker.buildCauseResult(entityUuid, cause.getKey(),
+                RewardManager.rankingDepth(cause.getValue())));
+        }
+        TankResult tankResult = tankTracker.buildResult(entityUuid,
+            RewardManager.rankingDepth(config.getTankRewardTiers()));
+        SupportResult supportResult = supportTracker.buildResult(entityUuid,
+            RewardManager.rankingDepth(config.getSupportRewardTiers()));
 
         // Get killer
         Player killer = (event.getKiller() instanceof Player p) ? p : null;
         String killerName = killer != null ? killer.getName() : null;
 
         // Broadcast death
-        plugin.getBroadcastManager().broadcastDeath(instance.getConfig(), killerName);
+        plugin.getBroadcastManager().broadcastDeath(config, killerName);
 
         // Distribute rewards per category
-        if (instance.getConfig().isRewardsEnabled()) {
-            rewardManager.distributeAllRewards(instance.getConfig(),
-                damageResult, tankResult, supportResult);
+        if (config.isRewardsEnabled()) {
+            rewardManager.distributeAllRewards(config, damageResult, causeResults, tankResult, supportResult);
         }
-
-        // Clean up boss instance
-        instance.onDeath();
-
-        // Save state (remove dead boss)
-        plugin.getBossStateManager().remove(instance.getConfig().getId());
     }
 }
@@ -0,0 +1,59 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossInstance;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+/**
+ * Drives {@link dev.salyvn.slBossSpawner.boss.BossState} from entity events.
+ * Each handler is a single UUID index lookup, so non-boss entities cost one map miss.
+ * Deaths are handled by {@link BossDeathListener}, which runs before the entity leaves the world;
+ * any other removal ends the fight so tracker state is never left behind.
+ */
+public class BossLifecycleListener implements Listener {
+    private final SLBossSpawner plugin;
+
+    public BossLifecycleListener(SLBossSpawner plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(EntityAddToWorldEvent event) {
+        BossInstance instance = lookup(event.getEntity());
+        if (instance != null) {
+            instance.onEntityLoaded(event.getEntity());
+        }
+    }
+
+    /**
+     * Chunk unloads mark the boss UNLOADED first (EntitiesUnloadEvent), so reaching a live
+     * boss here means it was removed outright: the fight is ended unless it reappears.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        BossInstance instance = lookup(event.getEntity());
+        if (instance != null) {
+            instance.onEntityRemoved(event.getEntity());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            BossInstance instance = lookup(entity);
+            if (instance != null) {
+                instance.onEntityUnloaded();
+            }
+        }
+    }
+
+    private BossInstance lookup(Entity entity) {
+        return plugin.getBossScheduler().findByEntityUuid(entity.getUniqueId());
+    }
+}
@@ -0,0 +1,466 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossConfig;
+import dev.salyvn.slBossSpawner.config.ConfigManager;
+import dev.salyvn.slBossSpawner.utils.ListenerRegistration;
+import org.bukkit.entity.*;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single combat pipeline for boss fights.
+ * Owns the set of active fights and is the only handler on EntityDamageByEntityEvent:
+ * each event is classified once (player -> boss, boss -> player, or irrelevant) and then
+ * fanned out to the registered {@link ContributionCollector}s together with the fight's
+ * {@link ContributionTable}.
+ * Uses MONITOR priority to capture final post-armor damage.
+ *
+ * Registered with Bukkit only while at least one fight is running or tracked mob types are
+ * configured, together with any collector that is itself a Listener; the plugin is absent
+ * from these events otherwise.
+ *
+ * With {@code combat.coalesce-hits} (Paper only) hits are appended to a {@link HitBuffer}
+ * instead and replayed to the collectors, in order, once at the end of the tick.
+ *
+ * Tables of ended fights are reset into a small pool and handed to the next fight, so the
+ * churn of many short tracked-mob fights does not allocate a table per spawn.
+ */
+public class CombatListener implements Listener {
+    public static final String COALESCED_METRIC = "combat.coalesced";
+    public static final String TABLES_REUSED_METRIC = "combat.tables-reused";
+
+    // Recycled tables kept beyond this are left to the garbage collector
+    private static final int TABLE_POOL_LIMIT = 64;
+
+    private final SLBossSpawner plugin;
+
+    // Boss entity UUID -> fight in progress
+    private final Map<UUID, Fight> fights = new ConcurrentHashMap<>();
+    // Reset tables of ended fights, guarded by this
+    private final ArrayDeque<ContributionTable> tablePool = new ArrayDeque<>();
+    // Fight handle -> boss entity UUID / table, for replaying buffered hits; freed slots are reused
+    private UUID[] bossByHandle = new UUID[8];
+    private ContributionTable[] tableByHandle = new ContributionTable[8];
+    // Released handles, reused last-in first-out; handles from nextHandle up were never used
+    private int[] freeHandles = new int[8];
+    private int freeCount;
+    private int nextHandle;
+    // Player handle -> (fight handle + 1) of the fight they last hit or were hit in, 0 for none;
+    // lets support events find the player's fight without scanning every fight
+    private int[] fightByPlayer = new int[64];
+    // Pending hits in coalescing mode, null when hits are applied immediately
+    private volatile HitBuffer buffer;
+    // Allocated once: a method reference would allocate on every flush
+    private final HitBuffer.Sink replay = this::replay;
+    // Int entity ids of fighting bosses: first filter on every damage event
+    private final EntityIdSet bossEntityIds = new EntityIdSet();
+    // Boss entity UUID -> current entity id (ids change when the chunk reloads)
+    private final Map<UUID, Integer> entityIdByBoss = new ConcurrentHashMap<>();
+    // Array rather than a list so the hot path iterates without allocating
+    private volatile ContributionCollector[] collectors = new ContributionCollector[0];
+    // This listener plus every collector that listens to its own events; registered during fights
+    // (or while tracked mob types exist)
+    private final List<ListenerRegistration> fightListeners = new ArrayList<>();
+    // Keep fightListeners registered between fights: set while tracked mobs may start one at any time
+    private volatile boolean keepRegistered;
+
+    public CombatListener(SLBossSpawner plugin) {
+        this.plugin = plugin;
+        fightListeners.add(new ListenerRegistration(plugin, this));
+        configure();
+    }
+
+    /**
+     * Apply the coalescing settings from config.yml; pending hits are applied first.
+     */
+    public synchronized void configure() {
+        flush();
+
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isCoalesceHits()) {
+            buffer = null;
+            return;
+        }
+        if (plugin.getTaskScheduler().isFolia()) {
+            // Regions tick on their own threads: there is no single end of tick to flush at
+            plugin.getLogger().warning("combat.coalesce-hits is not supported on Folia, hits are applied immediately");
+            buffer = null;
+            return;
+        }
+
+        HitBuffer current = buffer;
+        if (current == null || current.capacity() != config.getCoalesceBufferSize()) {
+            buffer = new HitBuffer(config.getCoalesceBufferSize());
+        }
+    }
+
+    public synchronized void register(ContributionCollector collector) {
+        ContributionCollector[] next = Arrays.copyOf(collectors, collectors.length + 1);
+        next[collectors.length] = collector;
+        collectors = next;
+
+        if (collector instanceof Listener listener) {
+            fightListeners.add(new ListenerRegistration(plugin, listener));
+        }
+        updateRegistration();
+    }
+
+    public List<ContributionCollector> getCollectors() {
+        return List.of(collectors);
+    }
+
+    /**
+     * Start tracking a fight against this entity, rewarded by the given config.
+     */
+    public void startFight(UUID bossEntityUuid, int entityId, BossConfig config) {
+        synchronized (this) {
+            flush();
+            ContributionTable table = acquireTable();
+            Fight previous = fights.put(bossEntityUuid,
+                new Fight(acquireHandle(bossEntityUuid, table), table, config));
+            if (previous != null) {
+                unindexParticipants(previous);
+                releaseHandle(previous.handle());
+                recycle(previous.table());
+            }
+        }
+        updateEntityId(bossEntityUuid, entityId);
+        for (ContributionCollector collector : collectors) {
+            collector.startTracking(bossEntityUuid);
+        }
+        updateRegistration();
+        plugin.debug("Started fight tracking for boss entity: " + bossEntityUuid);
+    }
+
+    public void endFight(UUID bossEntityUuid) {
+        synchronized (this) {
+            flush();
+            Fight fight = fights.remove(bossEntityUuid);
+            if (fight != null) {
+                unindexParticipants(fight);
+                releaseHandle(fight.handle());
+                recycle(fight.table());
+            }
+        }
+        Integer entityId = entityIdByBoss.remove(bossEntityUuid);
+        if (entityId != null) {
+            bossEntityIds.remove(entityId);
+        }
+        for (ContributionCollector collector : collectors) {
+            collector.stopTracking(bossEntityUuid);
+        }
+        updateRegistration();
+    }
+
+    private ContributionTable acquireTable() {
+        ContributionTable table = tablePool.poll();
+        if (table == null) {
+            return new ContributionTable();
+        }
+        plugin.getMetrics().increment(TABLES_REUSED_METRIC);
+        return table;
+    }
+
+    private void recycle(ContributionTable table) {
+        if (tablePool.size() >= TABLE_POOL_LIMIT) return;
+        table.reset();
+        tablePool.push(table);
+    }
+
+    private int acquireHandle(UUID bossEntityUuid, ContributionTable table) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            handle = nextHandle++;
+            if (handle == bossByHandle.length) {
+                bossByHandle = Arrays.copyOf(bossByHandle, handle << 1);
+                tableByHandle = Arrays.copyOf(tableByHandle, handle << 1);
+                freeHandles = Arrays.copyOf(freeHandles, handle << 1);
+            }
+        }
+        bossByHandle[handle] = bossEntityUuid;
+        tableByHandle[handle] = table;
+        return handle;
+    }
+
+    private void releaseHandle(int handle) {
+        bossByHandle[handle] = null;
+        tableByHandle[handle] = null;
+        freeHandles[freeCount++] = handle;
+    }
+
+    /**
+     * A fighting boss came back as a new entity object (chunk reload), with a new entity id.
+     */
+    public void updateEntityId(UUID bossEntityUuid, int entityId) {
+        if (!fights.containsKey(bossEntityUuid)) return;
+
+        Integer previous = entityIdByBoss.put(bossEntityUuid, entityId);
+        if (previous != null && previous != entityId) {
+            bossEntityIds.remove(previous);
+        }
+        bossEntityIds.add(entityId);
+    }
+
+    /**
+     * Keep the fight listeners registered even with no fight running. Set while tracked mob
+     * types are configured: their fights start and end with every spawn and death, and
+     * registering and unregistering with each one would rebuild the HandlerLists every time.
+     */
+    public void setKeepRegistered(boolean keepRegistered) {
+        this.keepRegistered = keepRegistered;
+        updateRegistration();
+    }
+
+    /**
+     * Hook the fight listeners in for the first fight and out after the last one,
+     * so damage and potion events cost nothing while no boss is up.
+     */
+    private synchronized void updateRegistration() {
+        boolean active = keepRegistered || !fights.isEmpty();
+        for (ListenerRegistration registration : fightListeners) {
+            registration.setActive(active);
+        }
+    }
+
+    public boolean isFighting(UUID bossEntityUuid) {
+        return fights.containsKey(bossEntityUuid);
+    }
+
+    /**
+     * Cheap pre-filter: is this int entity id a fighting boss? Never touches a UUID.
+     */
+    public boolean isBossEntityId(int entityId) {
+        return bossEntityIds.contains(entityId);
+    }
+
+    /**
+     * Contribution table of a running fight, or null.
+     */
+    public ContributionTable getTable(UUID bossEntityUuid) {
+        Fight fight = fights.get(bossEntityUuid);
+        return fight != null ? fight.table() : null;
+    }
+
+    /**
+     * Config the running fight is rewarded by, or null.
+     */
+    public BossConfig getConfig(UUID bossEntityUuid) {
+        Fight fight = fights.get(bossEntityUuid);
+        return fight != null ? fight.config() : null;
+    }
+
+    /**
+     * Boss of a running fight this player takes part in (damage or tank), or null.
+     * The player's most recent fight when they are in several.
+     */
+    public synchronized UUID findParticipantFight(int playerHandle) {
+        int fightHandle = playerHandle < fightByPlayer.length ? fightByPlayer[playerHandle] - 1 : -1;
+        if (fightHandle < 0) return null;
+
+        // A hit racing the end of its fight can leave a stale entry; the table has the final say
+        ContributionTable table = tableByHandle[fightHandle];
+        return table != null && table.isParticipant(playerHandle) ? bossByHandle[fightHandle] : null;
+    }
+
+    private void indexParticipant(int fightHandle, int playerHandle) {
+        int[] index = fightByPlayer;
+        if (playerHandle < index.length && index[playerHandle] == fightHandle + 1) return;
+
+        synchronized (this) {
+            if (playerHandle >= fightByPlayer.length) {
+                fightByPlayer = Arrays.copyOf(fightByPlayer, Math.max(playerHandle + 1, fightByPlayer.length << 1));
+            }
+            fightByPlayer[playerHandle] = fightHandle + 1;
+        }
+    }
+
+    /**
+     * Drop an ending fight from the participant index; a player still in another fight is
+     * pointed at that one. Only this fight's participants are visited.
+     */
+    private void unindexParticipants(Fight ended) {
+        for (int player : ended.table().participantHandles()) {
+            if (player >= fightByPlayer.length || fightByPlayer[player] != ended.handle() + 1) continue;
+
+            fightByPlayer[player] = 0;
+            for (Fight other : fights.values()) {
+                if (other != ended && other.table().isParticipant(player)) {
+                    fightByPlayer[player] = other.handle() + 1;
+                    break;
+                }
+            }
+        }
+    }
+
+    public Set<UUID> getActiveFights() {
+        return Set.copyOf(fights.keySet());
+    }
+
+    public void clearAll() {
+        for (UUID bossEntityUuid : getActiveFights()) {
+            endFight(bossEntityUuid);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDamage(EntityDamageByEntityEvent event) {
+        if (fights.isEmpty()) return;
+
+        Entity victim = event.getEntity();
+        if (victim instanceof Player player) {
+            // Boss -> player (tank)
+            UUID bossUuid = unwrapBossUuid(event.getDamager());
+            Fight fight = bossUuid != null ? fights.get(bossUuid) : null;
+            if (fight == null) return;
+
+            // Tank damage has no breakdown: skip classifying it
+            dispatch(bossUuid, fight, HitBuffer.BOSS_DAMAGE_PLAYER, plugin.getPlayerRegistry().handleOf(player),
+                event.getFinalDamage(), DamageBucket.OTHER);
+            return;
+        }
+
+        // Player -> boss (damage); the int id check rejects almost everything
+        if (!bossEntityIds.contains(victim.getEntityId())) return;
+
+        UUID bossUuid = victim.getUniqueId();
+        Fight fight = fights.get(bossUuid);
+        if (fight == null) return;
+
+        Player player = unwrapPlayer(event.getDamager());
+        if (player == null) return;
+
+        dispatch(bossUuid, fight, HitBuffer.PLAYER_DAMAGE_BOSS, plugin.getPlayerRegistry().handleOf(player),
+            event.getFinalDamage(), DamageBucket.classify(event.getDamager(), event.getCause()));
+    }
+
+    /**
+     * Apply any buffered hits at the end of every tick a fight is running.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        flush();
+    }
+
+    /**
+     * Apply every buffered hit now, in the order the hits happened.
+     * Called at tick end, before a fight starts or ends, and before results are built.
+     */
+    public void flush() {
+        HitBuffer pending = buffer;
+        if (pending == null || pending.size() == 0) return;
+
+        plugin.getMetrics().add(COALESCED_METRIC, pending.size());
+        pending.drain(replay);
+    }
+
+    private void dispatch(UUID bossUuid, Fight fight, byte kind, int playerHandle, double damage, DamageBucket bucket) {
+        HitBuffer pending = buffer;
+        if (pending != null) {
+            if (pending.isFull()) {
+                flush();
+            }
+            pending.append(fight.handle(), playerHandle, damage, kind, bucket);
+            return;
+        }
+        apply(fight.handle(), bossUuid, fight.table(), kind, playerHandle, damage, bucket);
+    }
+
+    private void replay(int fightHandle, int playerHandle, double damage, byte kind, DamageBucket bucket) {
+        ContributionTable table = tableByHandle[fightHandle];
+        if (table == null) return;
+        apply(fightHandle, bossByHandle[fightHandle], table, kind, playerHandle, damage, bucket);
+    }
+
+    private void apply(int fightHandle, UUID bossUuid, ContributionTable table, byte kind, int playerHandle,
+                       double damage, DamageBucket bucket) {
+        // Every damage or tank hit makes the player a participant of this fight
+        indexParticipant(fightHandle, playerHandle);
+        ContributionCollector[] targets = collectors;
+        if (kind == HitBuffer.PLAYER_DAMAGE_BOSS) {
+            for (int i = 0; i < targets.length; i++) {
+                targets[i].onPlayerDamageBoss(bossUuid, table, playerHandle, damage, bucket);
+            }
+        } else {
+            for (int i = 0; i < targets.length; i++) {
+                targets[i].onBossDamagePlayer(bossUuid, table, playerHandle, damage, bucket);
+            }
+        }
+    }
+
+    /**
+     * Unwrap indirect damage to the originating player.
+     * Handles: Projectile, Tameable, TNTPrimed, AreaEffectCloud.
+     */
+    private Player unwrapPlayer(Entity damager) {
+        if (damager instanceof Player player) {
+            return player;
+        }
+
+        if (damager instanceof Projectile projectile) {
+            if (projectile.getShooter() instanceof Player player) {
+                return player;
+            }
+        }
+
+        if (damager instanceof Tameable tameable) {
+            if (tameable.getOwner() instanceof Player player) {
+                return player;
+            }
+        }
+
+        if (damager instanceof TNTPrimed tnt) {
+            if (tnt.getSource() instanceof Player player) {
+                return player;
+            }
+        }
+
+        if (damager instanceof AreaEffectCloud cloud) {
+            if (cloud.getSource() instanceof Player player) {
+                return player;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Unwrap indirect damage from boss to find the boss entity UUID.
+     * Handles: direct hit, Projectile, AreaEffectCloud.
+     */
+    private UUID unwrapBossUuid(Entity damager) {
+        if (bossEntityIds.contains(damager.getEntityId())) {
+            return damager.getUniqueId();
+        }
+
+        if (damager instanceof Projectile projectile) {
+            if (projectile.getShooter() instanceof Entity source && bossEntityIds.contains(source.getEntityId())) {
+                return source.getUniqueId();
+            }
+        }
+
+        if (damager instanceof AreaEffectCloud cloud) {
+            if (cloud.getSource() instanceof Entity source && bossEntityIds.contains(source.getEntityId())) {
+                return source.getUniqueId();
+            }
+        }
+
+        return null;
+    }
+
+    private record Fight(int handle, ContributionTable table, BossConfig config) {}
+}
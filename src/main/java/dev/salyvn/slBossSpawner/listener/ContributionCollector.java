@@ -0,0 +1,46 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A per-fight contribution category (damage, tank, support, ...).
+ * Registered with {@link CombatListener}, which owns fight lifecycle and classifies each
+ * damage event once before fanning it out; collectors only see events for active fights.
+ * Scores go into the fight's shared {@link ContributionTable}; collectors keep only
+ * their own extra state (last hit, attribution, ...).
+ *
+ * Hooks get the player as a {@link PlayerRegistry} handle rather than the event, because
+ * in coalescing mode they are replayed from a buffer at the end of the tick.
+ */
+public interface ContributionCollector {
+
+    /**
+     * Short category name used in logs and metrics.
+     */
+    String name();
+
+    void startTracking(UUID bossEntityUuid);
+
+    void stopTracking(UUID bossEntityUuid);
+
+    /**
+     * Every boss UUID that still owns state in this collector.
+     */
+    Set<UUID> getTrackedKeys();
+
+    /**
+     * A player (directly or through a projectile, pet, TNT or cloud) damaged a boss.
+     */
+    default void onPlayerDamageBoss(UUID bossEntityUuid, ContributionTable table, int playerHandle,
+                                    double damage, DamageBucket bucket) {
+    }
+
+    /**
+     * A boss (directly or through a projectile or cloud) damaged a player.
+     * Tank hits are not classified; the bucket is always {@link DamageBucket#OTHER}.
+     */
+    default void onBossDamagePlayer(UUID bossEntityUuid, ContributionTable table, int playerHandle,
+                                    double damage, DamageBucket bucket) {
+    }
+}
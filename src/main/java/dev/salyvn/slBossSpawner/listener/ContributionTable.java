@@ -0,0 +1,379 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-fight contribution table: one row per player, one double column per category.
+ * Rows live in an open-addressing hash table keyed by the player's {@link PlayerRegistry}
+ * handle, so recording a hit neither boxes nor allocates (the table only grows on a new player).
+ * Rankings use a bounded min-heap, O(n log k) for the k places actually rewarded.
+ * Equal scores rank by player handle, lowest first, so rankings never depend on slot order.
+ * The best {@link #LEADER_SLOTS} of each column are also kept live, updated on every add:
+ * scores only grow, so a player can only enter them by passing the last leader, and the
+ * set stays exact in O(LEADER_SLOTS) per hit.
+ * Players with damage or tank contributions are also marked in a participant bitset,
+ * which ally-support tracking tests per heal or buff.
+ * Tables of ended fights are {@link #reset()} and reused by {@link CombatListener}.
+ *
+ * A fight's events run on the thread owning the boss, so the lock is uncontended.
+ */
+public final class ContributionTable {
+    public static final int DAMAGE = 0;
+    public static final int TANK = 1;
+    public static final int SUPPORT = 2;
+    // First of the per-cause damage columns, one per DamageBucket
+    public static final int DAMAGE_BUCKETS = 3;
+    public static final int COLUMNS = DAMAGE_BUCKETS + DamageBucket.COUNT;
+    public static final int LEADER_SLOTS = 5;
+
+    private static final int INITIAL_CAPACITY = 16; // power of two
+    // A recycled table bigger than this shrinks back to INITIAL_CAPACITY
+    private static final int RETAINED_CAPACITY = 64;
+    private static final int EMPTY = -1;            // handles are non-negative
+
+    private int[] keys;         // player handles
+    private double[][] values;  // [column][slot]
+    private final double[] totals = new double[COLUMNS];
+    private int size;
+    private int mask;
+
+    // Live top LEADER_SLOTS per column, best first
+    private final int[][] leaderHandles = new int[COLUMNS][LEADER_SLOTS];
+    private final double[][] leaderValues = new double[COLUMNS][LEADER_SLOTS];
+    private final int[] leaderCount = new int[COLUMNS];
+    // Bumped whenever a column's leader order changes
+    private final long[] rankVersion = new long[COLUMNS];
+    // A negative add breaks the "scores only grow" rule; rebuild the leaders on next read
+    private final boolean[] leadersStale = new boolean[COLUMNS];
+
+    // Bit per player handle: dealt damage to or took damage from the boss
+    private long[] participants = new long[1];
+
+    public ContributionTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Add to a player's score in the given column.
+     */
+    public synchronized void add(int column, int playerHandle, double amount) {
+        addAt(column, slotFor(playerHandle), playerHandle, amount);
+    }
+
+    /**
+     * Add the same amount to a column and one of its breakdown columns with a single row lookup.
+     */
+    public synchronized void add(int column, int detailColumn, int playerHandle, double amount) {
+        int slot = slotFor(playerHandle);
+        addAt(column, slot, playerHandle, amount);
+        addAt(detailColumn, slot, playerHandle, amount);
+    }
+
+    public synchronized double get(int column, int playerHandle) {
+        int slot = find(playerHandle);
+        return slot < 0 ? 0 : values[column][slot];
+    }
+
+    public synchronized double total(int column) {
+        return totals[column];
+    }
+
+    /**
+     * Has this player dealt damage to or taken damage from the boss in this fight?
+     */
+    public synchronized boolean isParticipant(int playerHandle) {
+        int word = playerHandle >>> 6;
+        return word < participants.length && (participants[word] & (1L << playerHandle)) != 0;
+    }
+
+    /**
+     * Every player marked as a participant, in handle order.
+     */
+    synchronized int[] participantHandles() {
+        int count = 0;
+        for (long word : participants) {
+            count += Long.bitCount(word);
+        }
+
+        int[] handles = new int[count];
+        int i = 0;
+        for (int word = 0; word < participants.length; word++) {
+            for (long bits = participants[word]; bits != 0; bits &= bits - 1) {
+                handles[i++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return handles;
+    }
+
+    /**
+     * Number of players with any contribution in any column.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * The live leaders of a column, highest first, at most {@link #LEADER_SLOTS}.
+     */
+    public synchronized List<Entry> leaders(int column) {
+        if (leadersStale[column]) {
+            rebuildLeaders(column);
+        }
+
+        Entry[] entries = new Entry[leaderCount[column]];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry(leaderHandles[column][i], leaderValues[column][i]);
+        }
+        return Arrays.asList(entries);
+    }
+
+    /**
+     * Changes whenever the leaders of a column change order or membership; score changes
+     * that keep the same order leave it alone.
+     */
+    public synchronized long rankVersion(int column) {
+        if (leadersStale[column]) {
+            rebuildLeaders(column);
+        }
+        return rankVersion[column];
+    }
+
+    /**
+     * The k best players in a column, highest first. Players with nothing in this column are left out.
+     */
+    public synchronized List<Entry> top(int column, int k) {
+        if (k <= 0 || size == 0) return List.of();
+        if (k <= LEADER_SLOTS) {
+            List<Entry> leaders = leaders(column);
+            return leaders.size() <= k ? leaders : leaders.subList(0, k);
+        }
+        return topByHeap(column, k);
+    }
+
+    /**
+     * Empty the table for another fight. Only a table grown by a large fight is reallocated;
+     * rank versions keep counting so a reader can never mistake the new fight for the old one.
+     */
+    synchronized void reset() {
+        if (keys.length > RETAINED_CAPACITY) {
+            allocate(INITIAL_CAPACITY);
+        } else {
+            Arrays.fill(keys, EMPTY);
+            for (double[] column : values) {
+                Arrays.fill(column, 0);
+            }
+        }
+        size = 0;
+        Arrays.fill(totals, 0);
+        Arrays.fill(leaderCount, 0);
+        Arrays.fill(leadersStale, false);
+        for (int c = 0; c < COLUMNS; c++) {
+            rankVersion[c]++;
+        }
+        Arrays.fill(participants, 0);
+    }
+
+    private List<Entry> topByHeap(int column, int k) {
+        if (size == 0) return List.of();
+
+        double[] col = values[column];
+        int[] heap = new int[Math.min(k, size)];
+        int heapSize = 0;
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == EMPTY || col[slot] <= 0) continue;
+
+            if (heapSize < heap.length) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++, col);
+            } else if (worse(heap[0], slot, col)) {
+                heap[0] = slot;
+                siftDown(heap, heapSize, col);
+            }
+        }
+
+        // Pop the min-heap from the back of the result to get descending order
+        Entry[] sorted = new Entry[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int slot = heap[0];
+            sorted[i] = new Entry(keys[slot], col[slot]);
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, col);
+        }
+
+        return Arrays.asList(sorted);
+    }
+
+    private void addAt(int column, int slot, int playerHandle, double amount) {
+        double value = values[column][slot] += amount;
+        totals[column] += amount;
+
+        if (column != SUPPORT) {
+            markParticipant(playerHandle);
+        }
+
+        if (amount < 0) {
+            leadersStale[column] = true;
+        } else if (!leadersStale[column]) {
+            promote(column, playerHandle, value);
+        }
+    }
+
+    private void markParticipant(int handle) {
+        int word = handle >>> 6;
+        if (word >= participants.length) {
+            participants = Arrays.copyOf(participants, Math.max(word + 1, participants.length << 1));
+        }
+        participants[word] |= 1L << handle;
+    }
+
+    private void promote(int column, int handle, double value) {
+        if (value <= 0) return;
+
+        int[] handles = leaderHandles[column];
+        double[] scores = leaderValues[column];
+        int count = leaderCount[column];
+
+        int pos = 0;
+        while (pos < count && handles[pos] != handle) {
+            pos++;
+        }
+        boolean changed = false;
+        if (pos == count) {
+            if (count < LEADER_SLOTS) {
+                leaderCount[column] = count + 1;
+            } else if (ranksAbove(value, handle, scores[count - 1], handles[count - 1])) {
+                pos = count - 1;
+            } else {
+                return;
+            }
+            handles[pos] = handle;
+            changed = true;
+        }
+        scores[pos] = value;
+
+        // Bubble up past everyone it now beats
+        while (pos > 0 && ranksAbove(value, handle, scores[pos - 1], handles[pos - 1])) {
+            handles[pos] = handles[pos - 1];
+            scores[pos] = scores[pos - 1];
+            pos--;
+            handles[pos] = handle;
+            scores[pos] = value;
+            changed = true;
+        }
+        if (changed) {
+            rankVersion[column]++;
+        }
+    }
+
+    private void rebuildLeaders(int column) {
+        leadersStale[column] = false;
+        leaderCount[column] = 0;
+        for (Entry entry : topByHeap(column, LEADER_SLOTS)) {
+            int i = leaderCount[column]++;
+            leaderHandles[column][i] = entry.playerHandle();
+            leaderValues[column][i] = entry.value();
+        }
+        rankVersion[column]++;
+    }
+
+    private int slotFor(int handle) {
+        int slot = hash(handle) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == handle) return slot;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = handle;
+        size++;
+
+        // Keep the load factor at or below 3/4
+        if (size * 4 > keys.length * 3) {
+            grow();
+            return find(handle);
+        }
+        return slot;
+    }
+
+    private int find(int handle) {
+        int slot = hash(handle) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == handle) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        double[][] oldValues = values;
+
+        allocate(oldKeys.length << 1);
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldKeys[old] == EMPTY) continue;
+
+            int slot = hash(oldKeys[old]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[old];
+            for (int c = 0; c < COLUMNS; c++) {
+                values[c][slot] = oldValues[c][old];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new double[COLUMNS][capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(int handle) {
+        // Handles are sequential; spread them with a golden-ratio multiply
+        int h = handle * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean ranksAbove(double value, int handle, double otherValue, int otherHandle) {
+        return value > otherValue || (value == otherValue && handle < otherHandle);
+    }
+
+    // Does the row in slot a rank below the row in slot b?
+    private boolean worse(int a, int b, double[] col) {
+        return ranksAbove(col[b], keys[b], col[a], keys[a]);
+    }
+
+    private void siftUp(int[] heap, int i, double[] col) {
+        int slot = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(slot, heap[parent], col)) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = slot;
+    }
+
+    private void siftDown(int[] heap, int size, double[] col) {
+        if (size == 0) return;
+        int slot = heap[0];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && worse(heap[child + 1], heap[child], col)) child++;
+            if (!worse(heap[child], slot, col)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = slot;
+    }
+
+    /**
+     * One ranked row; resolve the player through {@link PlayerRegistry}.
+     */
+    public record Entry(int playerHandle, double value) {}
+}
@@ -0,0 +1,39 @@
+package dev.salyvn.slBossSpawner.listener;
+
+/**
+ * One player's damage split by {@link DamageBucket}; the parts add up to their total damage.
+ */
+public record DamageBreakdown(
+    double melee,
+    double projectile,
+    double magic,
+    double explosion,
+    double pet,
+    double other
+) {
+    public static final DamageBreakdown EMPTY = new DamageBreakdown(0, 0, 0, 0, 0, 0);
+
+    public double get(DamageBucket bucket) {
+        return switch (bucket) {
+            case MELEE -> melee;
+            case PROJECTILE -> projectile;
+            case MAGIC -> magic;
+            case EXPLOSION -> explosion;
+            case PET -> pet;
+            case OTHER -> other;
+        };
+    }
+
+    /**
+     * Read a player's bucket columns from a fight's table.
+     */
+    public static DamageBreakdown of(ContributionTable table, int playerHandle) {
+        return new DamageBreakdown(
+            table.get(DamageBucket.MELEE.column(), playerHandle),
+            table.get(DamageBucket.PROJECTILE.column(), playerHandle),
+            table.get(DamageBucket.MAGIC.column(), playerHandle),
+            table.get(DamageBucket.EXPLOSION.column(), playerHandle),
+            table.get(DamageBucket.PET.column(), playerHandle),
+            table.get(DamageBucket.OTHER.column(), playerHandle));
+    }
+}
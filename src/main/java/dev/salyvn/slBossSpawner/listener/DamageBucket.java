@@ -0,0 +1,66 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import org.bukkit.entity.*;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+/**
+ * How a hit was dealt, for the per-cause damage breakdown.
+ * Worked out once per hit from the damaging entity (the unwrap path) and the damage cause;
+ * each bucket is its own column in the fight's {@link ContributionTable}.
+ */
+public enum DamageBucket {
+    MELEE,
+    PROJECTILE,
+    MAGIC,      // potions, lingering clouds, poison/wither ticks
+    EXPLOSION,
+    PET,
+    OTHER;
+
+    // values() clones on every call
+    private static final DamageBucket[] VALUES = values();
+
+    public static final int COUNT = VALUES.length;
+
+    /**
+     * Column holding this bucket's damage.
+     */
+    public int column() {
+        return ContributionTable.DAMAGE_BUCKETS + ordinal();
+    }
+
+    /**
+     * Lower-case name used in placeholders and messages.
+     */
+    public String key() {
+        return name().toLowerCase();
+    }
+
+    public static DamageBucket byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Bucket for a lower-case key as written in reward.yml, or null.
+     */
+    public static DamageBucket byKey(String key) {
+        for (DamageBucket bucket : VALUES) {
+            if (bucket.key().equalsIgnoreCase(key)) return bucket;
+        }
+        return null;
+    }
+
+    public static DamageBucket classify(Entity damager, DamageCause cause) {
+        if (damager instanceof Tameable) return PET;
+        if (damager instanceof ThrownPotion || damager instanceof AreaEffectCloud) return MAGIC;
+        if (damager instanceof TNTPrimed) return EXPLOSION;
+        if (damager instanceof Projectile) return PROJECTILE;
+
+        return switch (cause) {
+            case ENTITY_ATTACK, ENTITY_SWEEP_ATTACK -> MELEE;
+            case PROJECTILE -> PROJECTILE;
+            case MAGIC, POISON, WITHER, DRAGON_BREATH -> MAGIC;
+            case ENTITY_EXPLOSION, BLOCK_EXPLOSION -> EXPLOSION;
+            default -> OTHER;
+        };
+    }
+}
@@ -29,7 +29,8 @@ public record DamageResult(
     }
 
     /**
-     * Entry for a single player's cumulative damage.
+     * Entry for a single player's cumulative damage, with its per-cause split.
      */
-    public record PlayerDamageEntry(UUID playerUuid, String playerName, double damage) {}
+    public record PlayerDamageEntry(UUID playerUuid, String playerName, double damage,
+                                    DamageBreakdown breakdown) {}
 }
@@ -1,142 +1,108 @@
 package dev.salyvn.slBossSpawner.listener;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
-import org.bukkit.entity.*;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tracks player damage dealt to boss entities.
- * Uses MONITOR priority to capture final post-armor damage.
+ * Fed by {@link CombatListener}, which has already resolved the attacking player;
+ * damage goes into the fight's {@link ContributionTable}.
  */
-public class DamageTracker implements Listener {
+public class DamageTracker implements ContributionCollector {
     private final SLBossSpawner plugin;
 
-    // Outer: boss entity UUID -> Inner: player UUID -> cumulative damage
-    private final Map<UUID, Map<UUID, Double>> damageMap = new HashMap<>();
-    // Boss entity UUID -> player name cache
-    private final Map<UUID, Map<UUID, String>> nameCache = new HashMap<>();
     // Boss entity UUID -> last hit player UUID
-    private final Map<UUID, UUID> lastHitMap = new HashMap<>();
-    // Set of tracked boss entity UUIDs
-    private final Set<UUID> trackedBosses = new HashSet<>();
+    private final Map<UUID, UUID> lastHitMap = new ConcurrentHashMap<>();
 
     public DamageTracker(SLBossSpawner plugin) {
         this.plugin = plugin;
     }
 
+    @Override
+    public String name() {
+        return "damage";
+    }
+
+    @Override
     public void startTracking(UUID bossEntityUuid) {
-        trackedBosses.add(bossEntityUuid);
-        damageMap.put(bossEntityUuid, new HashMap<>());
-        nameCache.put(bossEntityUuid, new HashMap<>());
-        plugin.debug("Started tracking damage for boss entity: " + bossEntityUuid);
+        lastHitMap.remove(bossEntityUuid);
     }
 
+    @Override
     public void stopTracking(UUID bossEntityUuid) {
-        trackedBosses.remove(bossEntityUuid);
-        damageMap.remove(bossEntityUuid);
-        nameCache.remove(bossEntityUuid);
         lastHitMap.remove(bossEntityUuid);
     }
 
-    public boolean isTracking(UUID bossEntityUuid) {
-        return trackedBosses.contains(bossEntityUuid);
+    @Override
+    public Set<UUID> getTrackedKeys() {
+        return new HashSet<>(lastHitMap.keySet());
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onDamage(EntityDamageByEntityEvent event) {
-        UUID victimUuid = event.getEntity().getUniqueId();
-        if (!trackedBosses.contains(victimUuid))
-            return;
-
-        Player player = unwrapPlayer(event.getDamager());
-        if (player == null)
-            return;
-
-        double damage = event.getFinalDamage();
-        UUID playerUuid = player.getUniqueId();
-
-        damageMap.computeIfAbsent(victimUuid, k -> new HashMap<>())
-                .merge(playerUuid, damage, (a, b) -> a + b);
-
-        nameCache.computeIfAbsent(victimUuid, k -> new HashMap<>())
-                .put(playerUuid, player.getName());
-
-        lastHitMap.put(victimUuid, playerUuid);
+    @Override
+    public void onPlayerDamageBoss(UUID bossEntityUuid, ContributionTable table, int playerHandle,
+                                   double damage, DamageBucket bucket) {
+        table.add(ContributionTable.DAMAGE, bucket.column(), playerHandle, damage);
+        lastHitMap.put(bossEntityUuid, plugin.getPlayerRegistry().getUuid(playerHandle));
     }
 
     /**
-     * Unwrap indirect damage to the originating player.
-     * Handles: Projectile, Tameable, TNTPrimed, AreaEffectCloud.
+     * Build the DamageResult for a boss entity, ranking only the top {@code depth} players.
+     * Call before cleanup to capture final state.
      */
-    private Player unwrapPlayer(Entity damager) {
-        if (damager instanceof Player player) {
-            return player;
-        }
-
-        if (damager instanceof Projectile projectile) {
-            if (projectile.getShooter() instanceof Player player) {
-                return player;
-            }
+    public DamageResult buildResult(UUID bossEntityUuid, int depth) {
+        ContributionTable table = plugin.getCombatListener().getTable(bossEntityUuid);
+        if (table == null) {
+            return DamageResult.empty();
         }
 
-        if (damager instanceof Tameable tameable) {
-            if (tameable.getOwner() instanceof Player player) {
-                return player;
-            }
+        List<ContributionTable.Entry> top = table.top(ContributionTable.DAMAGE, depth);
+        if (top.isEmpty()) {
+            return DamageResult.empty();
         }
 
-        if (damager instanceof TNTPrimed tnt) {
-            if (tnt.getSource() instanceof Player player) {
-                return player;
-            }
+        // Names are resolved here, once per ranked player, not on every hit
+        PlayerRegistry registry = plugin.getPlayerRegistry();
+        List<DamageResult.PlayerDamageEntry> rankings = new ArrayList<>(top.size());
+        for (ContributionTable.Entry entry : top) {
+            rankings.add(new DamageResult.PlayerDamageEntry(
+                    registry.getUuid(entry.playerHandle()), registry.getName(entry.playerHandle()), entry.value(),
+                    DamageBreakdown.of(table, entry.playerHandle())));
         }
 
-        if (damager instanceof AreaEffectCloud cloud) {
-            if (cloud.getSource() instanceof Player player) {
-                return player;
-            }
-        }
+        UUID lastHit = lastHitMap.get(bossEntityUuid);
 
-        return null;
+        return new DamageResult(rankings, lastHit, table.total(ContributionTable.DAMAGE));
     }
 
     /**
-     * Build sorted DamageResult for a boss entity.
-     * Call before cleanup to capture final state.
+     * Ranking of one damage cause for a boss entity, top {@code depth} players by that bucket.
+     * Totals are the bucket's; there is no last hit, the last-hit bonus belongs to the damage ranking.
      */
-    public DamageResult buildResult(UUID bossEntityUuid) {
-        Map<UUID, Double> damages = damageMap.get(bossEntityUuid);
-        Map<UUID, String> names = nameCache.get(bossEntityUuid);
-
-        if (damages == null || damages.isEmpty()) {
+    public DamageResult buildCauseResult(UUID bossEntityUuid, DamageBucket bucket, int depth) {
+        ContributionTable table = plugin.getCombatListener().getTable(bossEntityUuid);
+        if (table == null) {
             return DamageResult.empty();
         }
 
-        double totalDamage = damages.values().stream().mapToDouble(Double::doubleValue).sum();
-
-        List<DamageResult.PlayerDamageEntry> rankings = damages.entrySet().stream()
-                .map(e -> new DamageResult.PlayerDamageEntry(
-                        e.getKey(),
-                        names != null ? names.getOrDefault(e.getKey(), "Unknown") : "Unknown",
-                        e.getValue()))
-                .sorted(Comparator.comparingDouble(DamageResult.PlayerDamageEntry::damage).reversed())
-                .collect(Collectors.toList());
+        List<ContributionTable.Entry> top = table.top(bucket.column(), depth);
+        if (top.isEmpty()) {
+            return DamageResult.empty();
+        }
 
-        UUID lastHit = lastHitMap.get(bossEntityUuid);
+        PlayerRegistry registry = plugin.getPlayerRegistry();
+        List<DamageResult.PlayerDamageEntry> rankings = new ArrayList<>(top.size());
+        for (ContributionTable.Entry entry : top) {
+            rankings.add(new DamageResult.PlayerDamageEntry(
+                    registry.getUuid(entry.playerHandle()), registry.getName(entry.playerHandle()), entry.value(),
+                    DamageBreakdown.of(table, entry.playerHandle())));
+        }
 
-        return new DamageResult(rankings, lastHit, totalDamage);
+        return new DamageResult(rankings, null, table.total(bucket.column()));
     }
 
     public void clearAll() {
-        trackedBosses.clear();
-        damageMap.clear();
-        nameCache.clear();
         lastHitMap.clear();
     }
 }
@@ -0,0 +1,125 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import java.util.Arrays;
+
+/**
+ * Set of int entity ids for the damage hot path.
+ * Reads are lock-free probes into a small open-addressing table, so rejecting a non-boss
+ * entity takes a multiply and one or two array loads, with no UUID work at all.
+ * Writes (fight start/end, entity reload) update the table in place: removal leaves a
+ * tombstone so a concurrent probe never misses a member, and the table is only rebuilt
+ * when members and tombstones fill half of it.
+ */
+public final class EntityIdSet {
+    private static final int EMPTY = -1; // entity ids are positive
+    private static final int DELETED = -2;
+    private static final int MIN_CAPACITY = 8;
+
+    // Re-assigned after every write, which publishes the in-place change to readers
+    private volatile int[] table = emptyTable(MIN_CAPACITY);
+    private int size; // members, guarded by this
+    private int used; // members plus tombstones, guarded by this
+
+    public boolean contains(int entityId) {
+        int[] t = table;
+        int mask = t.length - 1;
+        int i = mix(entityId) & mask;
+        while (true) {
+            int v = t[i];
+            if (v == entityId) return true;
+            if (v == EMPTY) return false;
+            i = (i + 1) & mask;
+        }
+    }
+
+    public synchronized void add(int entityId) {
+        int[] t = table;
+        int mask = t.length - 1;
+        int i = mix(entityId) & mask;
+        int tombstone = -1;
+        while (true) {
+            int v = t[i];
+            if (v == entityId) return;
+            if (v == EMPTY) break;
+            if (v == DELETED && tombstone < 0) tombstone = i;
+            i = (i + 1) & mask;
+        }
+
+        size++;
+        if (tombstone >= 0) {
+            t[tombstone] = entityId;
+        } else {
+            t[i] = entityId;
+            used++;
+        }
+        // At most half full, so a miss ends at an empty slot quickly
+        if (used * 2 > t.length) {
+            rebuild(t);
+        } else {
+            table = t;
+        }
+    }
+
+    public synchronized void remove(int entityId) {
+        int[] t = table;
+        int mask = t.length - 1;
+        int i = mix(entityId) & mask;
+        while (true) {
+            int v = t[i];
+            if (v == entityId) break;
+            if (v == EMPTY) return;
+            i = (i + 1) & mask;
+        }
+
+        if (--size == 0) {
+            // Last member gone: drop the tombstones along with it
+            Arrays.fill(t, EMPTY);
+            used = 0;
+        } else {
+            t[i] = DELETED;
+        }
+        table = t;
+    }
+
+    public synchronized void clear() {
+        size = 0;
+        used = 0;
+        table = emptyTable(MIN_CAPACITY);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void rebuild(int[] old) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 4) {
+            capacity <<= 1;
+        }
+
+        int[] t = emptyTable(capacity);
+        int mask = capacity - 1;
+        for (int id : old) {
+            if (id == EMPTY || id == DELETED) continue;
+            int i = mix(id) & mask;
+            while (t[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            t[i] = id;
+        }
+        used = size;
+        table = t;
+    }
+
+    private static int[] emptyTable(int capacity) {
+        int[] t = new int[capacity];
+        Arrays.fill(t, EMPTY);
+        return t;
+    }
+
+    private static int mix(int id) {
+        // Sequential ids: spread them with a golden-ratio multiply, use the high bits
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
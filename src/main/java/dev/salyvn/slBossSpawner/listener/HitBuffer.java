@@ -0,0 +1,72 @@
+package dev.salyvn.slBossSpawner.listener;
+
+/**
+ * Preallocated ring of pending hits for coalescing mode.
+ * Each hit is four primitives in parallel arrays (fight handle, player handle, amount, kind+bucket),
+ * so appending never allocates. {@link CombatListener} replays the ring in append order,
+ * which keeps per-fight ordering (and therefore the last hit) exact.
+ *
+ * Not thread-safe: only used when all damage events run on one thread (Paper, not Folia).
+ */
+final class HitBuffer {
+    static final byte PLAYER_DAMAGE_BOSS = 0;
+    static final byte BOSS_DAMAGE_PLAYER = 1;
+
+    private final int[] fightHandles;
+    private final int[] playerHandles;
+    private final double[] amounts;
+    private final byte[] kinds;
+    private final byte[] buckets; // DamageBucket ordinal
+    private int head;
+    private int size;
+
+    HitBuffer(int capacity) {
+        fightHandles = new int[capacity];
+        playerHandles = new int[capacity];
+        amounts = new double[capacity];
+        kinds = new byte[capacity];
+        buckets = new byte[capacity];
+    }
+
+    int capacity() {
+        return amounts.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == amounts.length;
+    }
+
+    /**
+     * Append a hit; the caller drains the buffer first when it is full.
+     */
+    void append(int fightHandle, int playerHandle, double amount, byte kind, DamageBucket bucket) {
+        int i = (head + size) % amounts.length;
+        fightHandles[i] = fightHandle;
+        playerHandles[i] = playerHandle;
+        amounts[i] = amount;
+        kinds[i] = kind;
+        buckets[i] = (byte) bucket.ordinal();
+        size++;
+    }
+
+    /**
+     * Hand every pending hit to the sink, oldest first, and empty the buffer.
+     */
+    void drain(Sink sink) {
+        while (size > 0) {
+            int i = head;
+            head = (head + 1) % amounts.length;
+            size--;
+            sink.accept(fightHandles[i], playerHandles[i], amounts[i], kinds[i], DamageBucket.byOrdinal(buckets[i]));
+        }
+        head = 0;
+    }
+
+    interface Sink {
+        void accept(int fightHandle, int playerHandle, double amount, byte kind, DamageBucket bucket);
+    }
+}
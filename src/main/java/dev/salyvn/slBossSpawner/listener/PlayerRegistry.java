@@ -0,0 +1,95 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plugin-wide player identities. Each player gets a compact int handle on join that is
+ * reused for every fight, and their UUID and name are stored once, indexed by handle.
+ * Contribution tables key on handles; names are only resolved when results are built.
+ *
+ * Handles are never recycled, so a handle stays valid for the whole server session.
+ */
+public class PlayerRegistry implements Listener {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final SLBossSpawner plugin;
+    private final Map<UUID, Integer> handles = new ConcurrentHashMap<>();
+    // Indexed by handle; replaced (never shrunk) when full
+    private volatile UUID[] uuids = new UUID[INITIAL_CAPACITY];
+    private volatile String[] names = new String[INITIAL_CAPACITY];
+    private int nextHandle;
+
+    public PlayerRegistry(SLBossSpawner plugin) {
+        this.plugin = plugin;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            register(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        register(event.getPlayer());
+    }
+
+    /**
+     * Handle for a player; hot path is a single map lookup. Registers unknown players.
+     */
+    public int handleOf(Player player) {
+        Integer handle = handles.get(player.getUniqueId());
+        return handle != null ? handle : register(player);
+    }
+
+    /**
+     * Handle of a player seen this session, or -1; never registers.
+     */
+    public int find(UUID uuid) {
+        Integer handle = handles.get(uuid);
+        return handle != null ? handle : -1;
+    }
+
+    public UUID getUuid(int handle) {
+        return uuids[handle];
+    }
+
+    public String getName(int handle) {
+        String name = names[handle];
+        return name != null ? name : "Unknown";
+    }
+
+    public synchronized int size() {
+        return nextHandle;
+    }
+
+    private synchronized int register(Player player) {
+        UUID uuid = player.getUniqueId();
+        Integer existing = handles.get(uuid);
+        if (existing != null) {
+            // Name changes take effect on the next join
+            names[existing] = player.getName();
+            return existing;
+        }
+
+        int handle = nextHandle++;
+        if (handle == uuids.length) {
+            uuids = Arrays.copyOf(uuids, handle * 2);
+            names = Arrays.copyOf(names, handle * 2);
+        }
+        uuids[handle] = uuid;
+        names[handle] = player.getName();
+        // Publish last: readers find the handle only after its row is written
+        handles.put(uuid, handle);
+        plugin.debug("Registered player " + player.getName() + " as handle " + handle);
+        return handle;
+    }
+}
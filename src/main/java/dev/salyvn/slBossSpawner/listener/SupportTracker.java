@@ -1,80 +1,87 @@
 package dev.salyvn.slBossSpawner.listener;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossConfig;
+import dev.salyvn.slBossSpawner.reward.SupportScoring;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.AreaEffectCloudApplyEvent;
 import org.bukkit.event.entity.EntityPotionEffectEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
 import org.bukkit.event.entity.PotionSplashEvent;
+import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
+import org.bukkit.potion.PotionType;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tracks harmful potion/debuff effects applied to boss entities by players.
- * Score formula: (amplifier + 1) * (durationTicks / 20.0)
+ * Which effects count and how much comes from the boss's {@link SupportScoring}
+ * (reward.yml {@code support.scoring}); by default (amplifier + 1) * seconds.
  *
  * Attribution: EntityPotionEffectEvent doesn't tell who caused the effect,
  * so we track splash/lingering potion throwers via PotionSplashEvent and
- * AreaEffectCloudApplyEvent, maintaining a short-lived attribution cache.
+ * AreaEffectCloudApplyEvent in a short per-boss ring of (player, effects carried, tick).
+ * Each applied effect goes to the most recent fresh thrower whose potion carried it,
+ * so two players splashing in the same window are each credited for their own effects.
+ * Any cause is attributed on a boss (a tipped arrow landing inside the window counts for the
+ * thrower whose potion carried the same effect), as long as some fresh potion carried it.
+ *
+ * Ally support: splash and lingering heals and buffs landing on a fight participant
+ * (anyone with damage or tank in the fight) are attributed the same way, through a ring
+ * per target player, and credited to the thrower in that fight. Heals score the health
+ * actually restored times the boss's heal weight; buffs use its ally scoring. A splash or cloud
+ * application credits each effect it carried once per target.
+ * Heals and buffs without a known thrower (beacons, natural regen, plugin skills) are not scored.
  */
-public class SupportTracker implements Listener {
+public class SupportTracker implements Listener, ContributionCollector {
     private final SLBossSpawner plugin;
 
-    // Boss entity UUID -> player UUID -> cumulative support score
-    private final Map<UUID, Map<UUID, Double>> supportMap = new HashMap<>();
-    // Boss entity UUID -> player name cache
-    private final Map<UUID, Map<UUID, String>> nameCache = new HashMap<>();
-    // Set of tracked boss entity UUIDs
-    private final Set<UUID> trackedBosses = new HashSet<>();
-
-    // Attribution cache: boss entity UUID -> (player UUID, timestamp tick)
-    // Tracks who last threw a potion at each boss (expires after 5 ticks)
-    private final Map<UUID, AttributionEntry> attributionCache = new HashMap<>();
+    // Boss entity UUID -> recent potion throwers at that boss (entries expire after 5 ticks)
+    private final Map<UUID, AttributionRing> attributions = new ConcurrentHashMap<>();
 
     private static final long ATTRIBUTION_EXPIRY_TICKS = 5;
+    private static final int ATTRIBUTION_RING_SIZE = 8;
 
-    private static final Set<PotionEffectType> HARMFUL_EFFECTS = Set.of(
-            PotionEffectType.SLOWNESS,
-            PotionEffectType.MINING_FATIGUE,
-            PotionEffectType.INSTANT_DAMAGE,
-            PotionEffectType.NAUSEA,
-            PotionEffectType.BLINDNESS,
-            PotionEffectType.HUNGER,
-            PotionEffectType.WEAKNESS,
-            PotionEffectType.POISON,
-            PotionEffectType.WITHER,
-            PotionEffectType.LEVITATION,
-            PotionEffectType.UNLUCK,
-            PotionEffectType.DARKNESS,
-            PotionEffectType.INFESTED,
-            PotionEffectType.OOZING,
-            PotionEffectType.WEAVING,
-            PotionEffectType.WIND_CHARGED);
+    // Target player handle -> recent potion throwers at that player; bounded by the player registry
+    private AttributionRing[] allyAttributions = new AttributionRing[64];
 
     public SupportTracker(SLBossSpawner plugin) {
         this.plugin = plugin;
     }
 
+    @Override
+    public String name() {
+        return "support";
+    }
+
+    @Override
     public void startTracking(UUID bossEntityUuid) {
-        trackedBosses.add(bossEntityUuid);
-        supportMap.put(bossEntityUuid, new HashMap<>());
-        nameCache.put(bossEntityUuid, new HashMap<>());
-        plugin.debug("Started support tracking for boss entity: " + bossEntityUuid);
+        attributions.remove(bossEntityUuid);
     }
 
+    @Override
     public void stopTracking(UUID bossEntityUuid) {
-        trackedBosses.remove(bossEntityUuid);
-        supportMap.remove(bossEntityUuid);
-        nameCache.remove(bossEntityUuid);
-        attributionCache.remove(bossEntityUuid);
+        attributions.remove(bossEntityUuid);
     }
 
-    public boolean isTracking(UUID bossEntityUuid) {
-        return trackedBosses.contains(bossEntityUuid);
+    @Override
+    public Set<UUID> getTrackedKeys() {
+        return new HashSet<>(attributions.keySet());
+    }
+
+    /**
+     * Int entity id filter first, so non-boss entities never touch their UUID.
+     */
+    private boolean isTracking(Entity entity) {
+        CombatListener combat = plugin.getCombatListener();
+        return combat.isBossEntityId(entity.getEntityId()) && combat.isFighting(entity.getUniqueId());
     }
 
     /**
@@ -82,16 +89,26 @@ public class SupportTracker implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPotionSplash(PotionSplashEvent event) {
-        if (!(event.getPotion().getShooter() instanceof Player player))
+        ThrownPotion potion = event.getPotion();
+        if (!(potion.getShooter() instanceof Player player))
             return;
 
+        long effects = 0; // worked out once, on the first boss or participant hit
         for (LivingEntity affected : event.getAffectedEntities()) {
-            UUID entityUuid = affected.getUniqueId();
-            if (trackedBosses.contains(entityUuid)) {
-                long currentTick = affected.getWorld().getGameTime();
-                attributionCache.put(entityUuid,
-                        new AttributionEntry(player.getUniqueId(), player.getName(), currentTick));
+            if (isTracking(affected)) {
+                if (effects == 0) {
+                    effects = effectMask(potion.getEffects());
+                }
+                UUID entityUuid = affected.getUniqueId();
+                record(entityUuid, plugin.getPlayerRegistry().handleOf(player), effects, affected.getWorld().getGameTime());
                 plugin.debug("Attribution: " + player.getName() + " splashed potion on boss " + entityUuid);
+            } else if (affected instanceof Player target && target != player) {
+                int targetHandle = plugin.getPlayerRegistry().handleOf(target);
+                if (plugin.getCombatListener().findParticipantFight(targetHandle) == null) continue;
+                if (effects == 0) {
+                    effects = effectMask(potion.getEffects());
+                }
+                recordAlly(targetHandle, plugin.getPlayerRegistry().handleOf(player), effects, affected.getWorld().getGameTime());
             }
         }
     }
@@ -105,103 +122,274 @@ public class SupportTracker implements Listener {
         if (!(cloud.getSource() instanceof Player player))
             return;
 
+        long effects = 0;
         for (LivingEntity affected : event.getAffectedEntities()) {
-            UUID entityUuid = affected.getUniqueId();
-            if (trackedBosses.contains(entityUuid)) {
-                long currentTick = affected.getWorld().getGameTime();
-                attributionCache.put(entityUuid,
-                        new AttributionEntry(player.getUniqueId(), player.getName(), currentTick));
+            if (isTracking(affected)) {
+                if (effects == 0) {
+                    effects = cloudEffectMask(cloud);
+                }
+                record(affected.getUniqueId(), plugin.getPlayerRegistry().handleOf(player), effects,
+                        affected.getWorld().getGameTime());
+            } else if (affected instanceof Player target && target != player) {
+                int targetHandle = plugin.getPlayerRegistry().handleOf(target);
+                if (plugin.getCombatListener().findParticipantFight(targetHandle) == null) continue;
+                if (effects == 0) {
+                    effects = cloudEffectMask(cloud);
+                }
+                recordAlly(targetHandle, plugin.getPlayerRegistry().handleOf(player), effects,
+                        affected.getWorld().getGameTime());
             }
         }
     }
 
+    private void record(UUID bossUuid, int playerHandle, long effects, long tick) {
+        attributions.computeIfAbsent(bossUuid, k -> new AttributionRing()).add(playerHandle, effects, tick);
+    }
+
+    private void recordAlly(int targetHandle, int playerHandle, long effects, long tick) {
+        AttributionRing ring;
+        synchronized (this) {
+            if (targetHandle >= allyAttributions.length) {
+                allyAttributions = Arrays.copyOf(allyAttributions,
+                        Math.max(targetHandle + 1, allyAttributions.length << 1));
+            }
+            ring = allyAttributions[targetHandle];
+            if (ring == null) {
+                ring = allyAttributions[targetHandle] = new AttributionRing();
+            }
+        }
+        ring.add(playerHandle, effects, tick);
+    }
+
+    private synchronized AttributionRing allyRing(int targetHandle) {
+        return targetHandle < allyAttributions.length ? allyAttributions[targetHandle] : null;
+    }
+
     /**
-     * Track when a harmful potion effect is applied/changed on a tracked boss.
+     * Track when a harmful potion effect is applied/changed on a tracked boss,
+     * or a beneficial one on a fight participant.
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPotionEffect(EntityPotionEffectEvent event) {
-        UUID bossUuid = event.getEntity().getUniqueId();
-        if (!trackedBosses.contains(bossUuid))
-            return;
-
         // Only count new effects or amplified/extended effects
         EntityPotionEffectEvent.Action action = event.getAction();
         if (action != EntityPotionEffectEvent.Action.ADDED
                 && action != EntityPotionEffectEvent.Action.CHANGED)
             return;
 
-        // Only count harmful effects
-        if (event.getNewEffect() == null)
-            return;
-        PotionEffectType effectType = event.getNewEffect().getType();
-        if (!HARMFUL_EFFECTS.contains(effectType))
+        PotionEffect effect = event.getNewEffect();
+        if (effect == null)
             return;
 
-        // Look up attribution — who caused this effect?
-        AttributionEntry attribution = attributionCache.get(bossUuid);
-        if (attribution == null)
+        if (event.getEntity() instanceof Player target) {
+            // Only thrown and lingering potions count for allies: their own drinks and beacons don't
+            EntityPotionEffectEvent.Cause cause = event.getCause();
+            if (cause == EntityPotionEffectEvent.Cause.POTION_SPLASH
+                    || cause == EntityPotionEffectEvent.Cause.AREA_EFFECT_CLOUD) {
+                onAllyEffect(target, effect);
+            }
+            return;
+        }
+        if (!isTracking(event.getEntity()))
             return;
+        UUID bossUuid = event.getEntity().getUniqueId();
 
-        // Check if attribution is still fresh (within expiry ticks)
-        long currentTick = event.getEntity().getWorld().getGameTime();
-        if (currentTick - attribution.tick() > ATTRIBUTION_EXPIRY_TICKS) {
-            attributionCache.remove(bossUuid);
+        // Score first: one array load, and effects this boss doesn't weigh stop here
+        BossConfig config = plugin.getCombatListener().getConfig(bossUuid);
+        if (config == null)
+            return;
+        double score = config.getSupportScoring()
+                .score(effect.getType(), effect.getAmplifier(), effect.getDuration());
+        if (score <= 0)
             return;
-        }
 
-        // Calculate support score: (amplifier + 1) * (duration in seconds)
-        int amplifier = event.getNewEffect().getAmplifier();
-        int durationTicks = event.getNewEffect().getDuration();
-        double score = (amplifier + 1) * (durationTicks / 20.0);
+        // Look up attribution — whose potion carried this effect?
+        AttributionRing ring = attributions.get(bossUuid);
+        if (ring == null)
+            return;
+        int playerHandle = ring.match(effectBit(effect.getType()), event.getEntity().getWorld().getGameTime());
+        if (playerHandle < 0)
+            return;
 
-        // For INSTANT_DAMAGE, use amplifier only (no duration)
-        if (effectType == PotionEffectType.INSTANT_DAMAGE) {
-            score = (amplifier + 1) * 10.0;
-        }
+        ContributionTable table = plugin.getCombatListener().getTable(bossUuid);
+        if (table == null)
+            return;
+        table.add(ContributionTable.SUPPORT, playerHandle, score);
 
-        UUID playerUuid = attribution.playerUuid();
+        plugin.debug("Support score +" + String.format("%.1f", score) + " for "
+                + plugin.getPlayerRegistry().getName(playerHandle) + " (" + effect.getType().getKey() + " on boss " + bossUuid + ")");
+    }
 
-        supportMap.computeIfAbsent(bossUuid, k -> new HashMap<>())
-                .merge(playerUuid, score, (a, b) -> a + b);
+    private void onAllyEffect(Player target, PotionEffect effect) {
+        int targetHandle = plugin.getPlayerRegistry().handleOf(target);
+        UUID bossUuid = plugin.getCombatListener().findParticipantFight(targetHandle);
+        if (bossUuid == null)
+            return;
 
-        nameCache.computeIfAbsent(bossUuid, k -> new HashMap<>())
-                .put(playerUuid, attribution.playerName());
+        BossConfig config = plugin.getCombatListener().getConfig(bossUuid);
+        if (config == null)
+            return;
+        double score = config.getAllySupportScoring()
+                .score(effect.getType(), effect.getAmplifier(), effect.getDuration());
+        if (score <= 0)
+            return;
 
-        plugin.debug("Support score +" + String.format("%.1f", score) + " for "
-                + attribution.playerName() + " (" + effectType.getKey() + " on boss " + bossUuid + ")");
+        creditAlly(bossUuid, targetHandle, effectBit(effect.getType()), target.getWorld().getGameTime(), score);
     }
 
     /**
-     * Build sorted SupportResult for a boss entity.
+     * Score instant-health heals on fight participants; regeneration is scored when the effect lands.
      */
-    public SupportResult buildResult(UUID bossEntityUuid) {
-        Map<UUID, Double> scores = supportMap.get(bossEntityUuid);
-        Map<UUID, String> names = nameCache.get(bossEntityUuid);
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegainHealth(EntityRegainHealthEvent event) {
+        if (event.getRegainReason() != EntityRegainHealthEvent.RegainReason.MAGIC)
+            return;
+        if (!(event.getEntity() instanceof Player target))
+            return;
 
-        if (scores == null || scores.isEmpty()) {
+        int targetHandle = plugin.getPlayerRegistry().handleOf(target);
+        UUID bossUuid = plugin.getCombatListener().findParticipantFight(targetHandle);
+        if (bossUuid == null)
+            return;
+
+        BossConfig config = plugin.getCombatListener().getConfig(bossUuid);
+        if (config == null)
+            return;
+
+        // Only the health actually restored counts, not overheal
+        AttributeInstance maxHealth = target.getAttribute(Attribute.MAX_HEALTH);
+        double missing = maxHealth != null ? maxHealth.getValue() - target.getHealth() : event.getAmount();
+        double score = Math.min(event.getAmount(), Math.max(0, missing)) * config.getSupportHealWeight();
+        if (score <= 0)
+            return;
+
+        creditAlly(bossUuid, targetHandle, effectBit(PotionEffectType.INSTANT_HEALTH), target.getWorld().getGameTime(), score);
+    }
+
+    private void creditAlly(UUID bossUuid, int targetHandle, long effectBit, long tick, double score) {
+        AttributionRing ring = allyRing(targetHandle);
+        if (ring == null)
+            return;
+        // Each splash credits each of its effects once, so the target drinking a potion of their own
+        // right after cannot be credited to the thrower
+        int playerHandle = ring.consume(effectBit, tick);
+        if (playerHandle < 0)
+            return;
+
+        ContributionTable table = plugin.getCombatListener().getTable(bossUuid);
+        if (table == null)
+            return;
+        table.add(ContributionTable.SUPPORT, playerHandle, score);
+
+        plugin.debug("Ally support +" + String.format("%.1f", score) + " for "
+                + plugin.getPlayerRegistry().getName(playerHandle) + " (helped "
+                + plugin.getPlayerRegistry().getName(targetHandle) + " against boss " + bossUuid + ")");
+    }
+
+    /**
+     * Build the SupportResult for a boss entity, ranking only the top {@code depth} players.
+     */
+    public SupportResult buildResult(UUID bossEntityUuid, int depth) {
+        ContributionTable table = plugin.getCombatListener().getTable(bossEntityUuid);
+        if (table == null) {
             return SupportResult.empty();
         }
 
-        double totalScore = scores.values().stream().mapToDouble(Double::doubleValue).sum();
+        List<ContributionTable.Entry> top = table.top(ContributionTable.SUPPORT, depth);
+        if (top.isEmpty()) {
+            return SupportResult.empty();
+        }
 
-        List<SupportResult.PlayerSupportEntry> rankings = scores.entrySet().stream()
-                .map(e -> new SupportResult.PlayerSupportEntry(
-                        e.getKey(),
-                        names != null ? names.getOrDefault(e.getKey(), "Unknown") : "Unknown",
-                        e.getValue()))
-                .sorted(Comparator.comparingDouble(SupportResult.PlayerSupportEntry::supportScore).reversed())
-                .collect(Collectors.toList());
+        PlayerRegistry registry = plugin.getPlayerRegistry();
+        List<SupportResult.PlayerSupportEntry> rankings = new ArrayList<>(top.size());
+        for (ContributionTable.Entry entry : top) {
+            rankings.add(new SupportResult.PlayerSupportEntry(
+                    registry.getUuid(entry.playerHandle()), registry.getName(entry.playerHandle()), entry.value()));
+        }
 
-        return new SupportResult(rankings, totalScore);
+        return new SupportResult(rankings, table.total(ContributionTable.SUPPORT));
     }
 
     public void clearAll() {
-        trackedBosses.clear();
-        supportMap.clear();
-        nameCache.clear();
-        attributionCache.clear();
+        attributions.clear();
+        synchronized (this) {
+            Arrays.fill(allyAttributions, null);
+        }
     }
 
-    private record AttributionEntry(UUID playerUuid, String playerName, long tick) {
+    /**
+     * Bit for an effect in an effects-carried mask, by numeric registry id.
+     * Ids past 62 share the top bit, which can only over-match, never miss.
+     */
+    @SuppressWarnings("deprecation")
+    private static long effectBit(PotionEffectType type) {
+        int id = type.getId();
+        return id >= 0 && id < 63 ? 1L << id : 1L << 63;
+    }
+
+    private static long effectMask(Collection<PotionEffect> effects) {
+        long mask = 0;
+        for (PotionEffect effect : effects) {
+            mask |= effectBit(effect.getType());
+        }
+        return mask;
+    }
+
+    private static long cloudEffectMask(AreaEffectCloud cloud) {
+        long mask = effectMask(cloud.getCustomEffects());
+        PotionType base = cloud.getBasePotionType();
+        if (base != null) {
+            mask |= effectMask(base.getPotionEffects());
+        }
+        return mask;
+    }
+
+    /**
+     * Last few potion throwers at one boss, in parallel primitive arrays.
+     * Written and read on the boss's own thread; the lock is uncontended.
+     */
+    private static final class AttributionRing {
+        private final int[] playerHandles = new int[ATTRIBUTION_RING_SIZE];
+        private final long[] effects = new long[ATTRIBUTION_RING_SIZE];
+        private final long[] ticks = new long[ATTRIBUTION_RING_SIZE];
+        private int next;
+        private int size;
+
+        synchronized void add(int playerHandle, long effectMask, long tick) {
+            playerHandles[next] = playerHandle;
+            effects[next] = effectMask;
+            ticks[next] = tick;
+            next = (next + 1) % ATTRIBUTION_RING_SIZE;
+            size = Math.min(size + 1, ATTRIBUTION_RING_SIZE);
+        }
+
+        /**
+         * Most recent fresh thrower whose potion carried the effect, or -1.
+         */
+        synchronized int match(long effectBit, long now) {
+            int i = find(effectBit, now);
+            return i < 0 ? -1 : playerHandles[i];
+        }
+
+        /**
+         * Like {@link #match}, but the matched potion no longer carries the effect afterwards.
+         */
+        synchronized int consume(long effectBit, long now) {
+            int i = find(effectBit, now);
+            if (i < 0) return -1;
+            effects[i] &= ~effectBit;
+            return playerHandles[i];
+        }
+
+        private int find(long effectBit, long now) {
+            for (int n = 0; n < size; n++) {
+                int i = Math.floorMod(next - 1 - n, ATTRIBUTION_RING_SIZE);
+                if (now - ticks[i] > ATTRIBUTION_EXPIRY_TICKS) break; // older entries are staler still
+                if ((effects[i] & effectBit) != 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
 }
@@ -1,129 +1,70 @@
 package dev.salyvn.slBossSpawner.listener;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
-import org.bukkit.entity.*;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Tracks damage received by players FROM boss entities (tank tracking).
- * Uses MONITOR priority to capture final post-armor damage.
+ * Fed by {@link CombatListener}, which has already resolved the attacking boss;
+ * damage taken goes into the fight's {@link ContributionTable}, so no state is kept here.
  */
-public class TankTracker implements Listener {
+public class TankTracker implements ContributionCollector {
     private final SLBossSpawner plugin;
 
-    // Outer: boss entity UUID -> Inner: player UUID -> cumulative damage taken
-    private final Map<UUID, Map<UUID, Double>> tankMap = new HashMap<>();
-    // Boss entity UUID -> player name cache
-    private final Map<UUID, Map<UUID, String>> nameCache = new HashMap<>();
-    // Set of tracked boss entity UUIDs
-    private final Set<UUID> trackedBosses = new HashSet<>();
-
     public TankTracker(SLBossSpawner plugin) {
         this.plugin = plugin;
     }
 
+    @Override
+    public String name() {
+        return "tank";
+    }
+
+    @Override
     public void startTracking(UUID bossEntityUuid) {
-        trackedBosses.add(bossEntityUuid);
-        tankMap.put(bossEntityUuid, new HashMap<>());
-        nameCache.put(bossEntityUuid, new HashMap<>());
-        plugin.debug("Started tank tracking for boss entity: " + bossEntityUuid);
     }
 
+    @Override
     public void stopTracking(UUID bossEntityUuid) {
-        trackedBosses.remove(bossEntityUuid);
-        tankMap.remove(bossEntityUuid);
-        nameCache.remove(bossEntityUuid);
     }
 
-    public boolean isTracking(UUID bossEntityUuid) {
-        return trackedBosses.contains(bossEntityUuid);
+    @Override
+    public Set<UUID> getTrackedKeys() {
+        return Set.of();
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onDamage(EntityDamageByEntityEvent event) {
-        // We need: damager is the boss, victim is a player
-        if (!(event.getEntity() instanceof Player player))
-            return;
-
-        UUID bossUuid = unwrapBossUuid(event.getDamager());
-        if (bossUuid == null || !trackedBosses.contains(bossUuid))
-            return;
-
-        double damage = event.getFinalDamage();
-        UUID playerUuid = player.getUniqueId();
-
-        tankMap.computeIfAbsent(bossUuid, k -> new HashMap<>())
-                .merge(playerUuid, damage, (a, b) -> a + b);
-
-        nameCache.computeIfAbsent(bossUuid, k -> new HashMap<>())
-                .put(playerUuid, player.getName());
+    @Override
+    public void onBossDamagePlayer(UUID bossEntityUuid, ContributionTable table, int playerHandle,
+                                   double damage, DamageBucket bucket) {
+        table.add(ContributionTable.TANK, playerHandle, damage);
     }
 
     /**
-     * Unwrap indirect damage from boss to find the boss entity UUID.
-     * Handles: direct hit, Projectile, AreaEffectCloud.
-     */
-    private UUID unwrapBossUuid(Entity damager) {
-        UUID directUuid = damager.getUniqueId();
-        if (trackedBosses.contains(directUuid)) {
-            return directUuid;
-        }
-
-        if (damager instanceof Projectile projectile) {
-            if (projectile.getShooter() instanceof Entity source) {
-                UUID sourceUuid = source.getUniqueId();
-                if (trackedBosses.contains(sourceUuid)) {
-                    return sourceUuid;
-                }
-            }
-        }
-
-        if (damager instanceof AreaEffectCloud cloud) {
-            if (cloud.getSource() instanceof Entity source) {
-                UUID sourceUuid = source.getUniqueId();
-                if (trackedBosses.contains(sourceUuid)) {
-                    return sourceUuid;
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Build sorted TankResult for a boss entity.
+     * Build the TankResult for a boss entity, ranking only the top {@code depth} players.
      * Call before cleanup to capture final state.
      */
-    public TankResult buildResult(UUID bossEntityUuid) {
-        Map<UUID, Double> damages = tankMap.get(bossEntityUuid);
-        Map<UUID, String> names = nameCache.get(bossEntityUuid);
-
-        if (damages == null || damages.isEmpty()) {
+    public TankResult buildResult(UUID bossEntityUuid, int depth) {
+        ContributionTable table = plugin.getCombatListener().getTable(bossEntityUuid);
+        if (table == null) {
             return TankResult.empty();
         }
 
-        double totalDamage = damages.values().stream().mapToDouble(Double::doubleValue).sum();
+        List<ContributionTable.Entry> top = table.top(ContributionTable.TANK, depth);
+        if (top.isEmpty()) {
+            return TankResult.empty();
+        }
 
-        List<TankResult.PlayerTankEntry> rankings = damages.entrySet().stream()
-                .map(e -> new TankResult.PlayerTankEntry(
-                        e.getKey(),
-                        names != null ? names.getOrDefault(e.getKey(), "Unknown") : "Unknown",
-                        e.getValue()))
-                .sorted(Comparator.comparingDouble(TankResult.PlayerTankEntry::damageTaken).reversed())
-                .collect(Collectors.toList());
+        PlayerRegistry registry = plugin.getPlayerRegistry();
+        List<TankResult.PlayerTankEntry> rankings = new ArrayList<>(top.size());
+        for (ContributionTable.Entry entry : top) {
+            rankings.add(new TankResult.PlayerTankEntry(
+                    registry.getUuid(entry.playerHandle()), registry.getName(entry.playerHandle()), entry.value()));
+        }
 
-        return new TankResult(rankings, totalDamage);
+        return new TankResult(rankings, table.total(ContributionTable.TANK));
     }
 
     public void clearAll() {
-        trackedBosses.clear();
-        tankMap.clear();
-        nameCache.clear();
     }
 }
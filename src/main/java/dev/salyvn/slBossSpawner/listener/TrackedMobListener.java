@@ -0,0 +1,95 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.boss.BossConfig;
+import dev.salyvn.slBossSpawner.utils.ListenerRegistration;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fight tracking for the MythicMobs types listed under {@code tracked-mobs} in config.yml,
+ * whatever spawned them (spawners, skills, other plugins).
+ * Every spawn is filtered by its type's internal name in one hash lookup, and the listener is
+ * registered only while any type is tracked, so untracked servers never see these events.
+ * Deaths are settled by {@link BossDeathListener} with the type's reward profile. A tracked mob
+ * that leaves the world any other way (despawn, chunk unload, removal) ends its fight at once:
+ * unlike a scheduled boss, nothing restores it later.
+ */
+public class TrackedMobListener implements Listener {
+    public static final String STARTED_METRIC = "tracked.started";
+
+    private final SLBossSpawner plugin;
+    private final ListenerRegistration registration;
+    // MythicMobs internal name -> reward profile: the spawn filter
+    private volatile Map<String, BossConfig> profilesByType = Map.of();
+    // Entity UUID -> reward profile of each live tracked mob
+    private final Map<UUID, BossConfig> tracked = new ConcurrentHashMap<>();
+
+    public TrackedMobListener(SLBossSpawner plugin) {
+        this.plugin = plugin;
+        this.registration = new ListenerRegistration(plugin, this);
+        configure();
+    }
+
+    /**
+     * Pick up the tracked types from the schedule manager; called on enable and reload.
+     */
+    public void configure() {
+        profilesByType = plugin.getScheduleManager().getTrackedMobConfigs();
+        registration.setActive(!profilesByType.isEmpty());
+        plugin.getCombatListener().setKeepRegistered(!profilesByType.isEmpty());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMythicMobSpawn(MythicMobSpawnEvent event) {
+        BossConfig config = profilesByType.get(event.getMobType().getInternalName());
+        if (config == null) return;
+
+        Entity entity = event.getEntity();
+        UUID entityUuid = entity.getUniqueId();
+        tracked.put(entityUuid, config);
+        plugin.getCombatListener().startFight(entityUuid, entity.getEntityId(), config);
+        plugin.getMetrics().increment(STARTED_METRIC);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        if (tracked.isEmpty()) return;
+
+        UUID entityUuid = event.getEntity().getUniqueId();
+        if (tracked.remove(entityUuid) == null) return;
+        // A scheduled boss of a tracked type is ended by its own instance
+        if (plugin.getBossScheduler().findByEntityUuid(entityUuid) != null) return;
+
+        plugin.getCombatListener().endFight(entityUuid);
+        plugin.debug("Tracked mob left the world without dying: " + entityUuid);
+    }
+
+    /**
+     * Stop tracking a mob that died; returns its reward profile, or null if it was not tracked.
+     * The caller settles the fight and then ends it.
+     */
+    public BossConfig release(UUID entityUuid) {
+        if (tracked.isEmpty()) return null;
+        return tracked.remove(entityUuid);
+    }
+
+    public boolean isTracked(UUID entityUuid) {
+        return tracked.containsKey(entityUuid);
+    }
+
+    /**
+     * Forget every tracked mob; their fights are ended by {@link CombatListener#clearAll()}.
+     */
+    public void clearAll() {
+        tracked.clear();
+    }
+}
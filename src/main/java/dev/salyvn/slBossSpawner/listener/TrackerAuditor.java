@@ -0,0 +1,75 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.metrics.PluginMetrics;
+import dev.salyvn.slBossSpawner.scheduler.TaskHandle;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Periodic safety net for tracker tables whose boss is no longer owned by the scheduler
+ * or tracked by type.
+ * Normal fights end through death, despawn or removal events; anything still tracked
+ * after that is a leak, which this auditor logs, reclaims and counts.
+ */
+public class TrackerAuditor {
+    public static final String RUNS_METRIC = "audit.runs";
+    public static final String RECLAIMED_METRIC = "audit.reclaimed";
+
+    private final SLBossSpawner plugin;
+    private TaskHandle task = TaskHandle.NONE;
+
+    public TrackerAuditor(SLBossSpawner plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        stop();
+        long interval = plugin.getConfigManager().getAuditIntervalSeconds() * 20L;
+        if (interval <= 0) return;
+        task = plugin.getTaskScheduler().runGlobalTimer(this::audit, interval, interval);
+    }
+
+    public void stop() {
+        task.cancel();
+        task = TaskHandle.NONE;
+    }
+
+    /**
+     * @return number of tracker tables reclaimed
+     */
+    public int audit() {
+        plugin.getMetrics().increment(RUNS_METRIC);
+
+        CombatListener combat = plugin.getCombatListener();
+        int reclaimed = reclaim("combat", combat.getActiveFights(), combat::endFight);
+        for (ContributionCollector collector : combat.getCollectors()) {
+            reclaimed += reclaim(collector.name(), collector.getTrackedKeys(), collector::stopTracking);
+        }
+
+        if (reclaimed > 0) {
+            plugin.getLogger().warning("Tracker audit reclaimed " + reclaimed + " orphaned table(s)");
+        }
+        return reclaimed;
+    }
+
+    private int reclaim(String tracker, Set<UUID> keys, Consumer<UUID> stop) {
+        PluginMetrics metrics = plugin.getMetrics();
+        int count = 0;
+        for (UUID bossUuid : keys) {
+            if (plugin.getBossScheduler().findByEntityUuid(bossUuid) != null) continue;
+            if (plugin.getTrackedMobListener().isTracked(bossUuid)) continue;
+
+            stop.accept(bossUuid);
+            count++;
+            plugin.debug("Reclaimed orphaned " + tracker + " table for boss entity " + bossUuid);
+        }
+        if (count > 0) {
+            metrics.add(RECLAIMED_METRIC, count);
+            metrics.add(RECLAIMED_METRIC + "." + tracker, count);
+        }
+        return count;
+    }
+}
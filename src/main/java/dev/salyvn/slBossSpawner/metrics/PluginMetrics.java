@@ -0,0 +1,36 @@
+package dev.salyvn.slBossSpawner.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named in-process counters (spawn deferrals, skipped leash checks, ...).
+ * Safe to bump from any region thread; read by commands and placeholders.
+ */
+public class PluginMetrics {
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(String name) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).increment();
+    }
+
+    public void add(String name, long amount) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(amount);
+    }
+
+    public long get(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Sorted copy of every counter.
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> copy = new TreeMap<>();
+        counters.forEach((name, counter) -> copy.put(name, counter.sum()));
+        return copy;
+    }
+}
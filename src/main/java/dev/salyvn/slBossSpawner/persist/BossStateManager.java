@@ -13,10 +13,19 @@ import java.util.UUID;
 
 /**
  * Saves/loads alive boss state to boss-state.yml for server restart survival.
+ * Per-boss changes are debounced into one snapshot built on the global thread and written
+ * asynchronously, so a spawn burst costs one file write instead of one per boss.
  */
 public class BossStateManager {
+    private static final long SAVE_DELAY_TICKS = 20L;
+
     private final SLBossSpawner plugin;
     private final File stateFile;
+    private boolean savePending;
+    private long snapshotSeq;   // last snapshot taken
+    // Guards the file only, so a slow disk never blocks the global thread's save bookkeeping
+    private final Object fileLock = new Object();
+    private long writtenSeq;    // last snapshot written; older async writes are dropped, guarded by fileLock
 
     public BossStateManager(SLBossSpawner plugin) {
         this.plugin = plugin;
@@ -24,15 +33,47 @@ public class BossStateManager {
     }
 
     /**
-     * Save all currently alive bosses to file.
+     * Save all currently alive bosses to file, synchronously. Used on shutdown and reload.
      */
     public void saveAll() {
+        YamlConfiguration yaml;
+        long seq;
+        synchronized (this) {
+            savePending = false;
+            yaml = snapshot();
+            seq = ++snapshotSeq;
+        }
+        write(yaml, seq);
+        plugin.debug("Saved boss state to " + stateFile.getName());
+    }
+
+    /**
+     * Record a boss change (spawn, death). Coalesced into the next debounced save.
+     */
+    public synchronized void requestSave() {
+        if (savePending) return;
+        savePending = true;
+
+        plugin.getTaskScheduler().runGlobalLater(() -> {
+            YamlConfiguration yaml;
+            long seq;
+            synchronized (this) {
+                if (!savePending) return; // superseded by a synchronous saveAll
+                savePending = false;
+                yaml = snapshot();
+                seq = ++snapshotSeq;
+            }
+            plugin.getTaskScheduler().runAsync(() -> write(yaml, seq));
+        }, SAVE_DELAY_TICKS);
+    }
+
+    private YamlConfiguration snapshot() {
         BossScheduler scheduler = plugin.getBossScheduler();
         YamlConfiguration yaml = new YamlConfiguration();
 
         for (Map.Entry<String, BossInstance> entry : scheduler.getAllBossInstances().entrySet()) {
             BossInstance instance = entry.getValue();
-            if (!instance.isAlive() || instance.getEntityUuid() == null) continue;
+            if (!instance.getState().hasEntity() || instance.getEntityUuid() == null) continue;
 
             String bossId = entry.getKey();
             yaml.set(bossId + ".entity-uuid", instance.getEntityUuid().toString());
@@ -40,51 +81,18 @@ public class BossStateManager {
             yaml.set(bossId + ".expire-time", instance.getExpireEpoch());
             yaml.set(bossId + ".boss-config-id", bossId);
         }
-
-        try {
-            yaml.save(stateFile);
-            plugin.debug("Saved boss state to " + stateFile.getName());
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save boss state: " + e.getMessage());
-        }
+        return yaml;
     }
 
-    /**
-     * Save a single boss entry.
-     */
-    public void saveSingle(BossInstance instance) {
-        YamlConfiguration yaml = stateFile.exists()
-            ? YamlConfiguration.loadConfiguration(stateFile)
-            : new YamlConfiguration();
-
-        String bossId = instance.getConfig().getId();
-        if (instance.isAlive() && instance.getEntityUuid() != null) {
-            yaml.set(bossId + ".entity-uuid", instance.getEntityUuid().toString());
-            yaml.set(bossId + ".spawn-time", instance.getSpawnEpoch());
-            yaml.set(bossId + ".expire-time", instance.getExpireEpoch());
-            yaml.set(bossId + ".boss-config-id", bossId);
-        }
-
-        try {
-            yaml.save(stateFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save boss state for " + bossId + ": " + e.getMessage());
-        }
-    }
-
-    /**
-     * Remove a boss entry from state file.
-     */
-    public void remove(String bossId) {
-        if (!stateFile.exists()) return;
-
-        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(stateFile);
-        yaml.set(bossId, null);
-
-        try {
-            yaml.save(stateFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to remove boss state for " + bossId + ": " + e.getMessage());
+    private void write(YamlConfiguration yaml, long seq) {
+        synchronized (fileLock) {
+            if (seq < writtenSeq) return;
+            writtenSeq = seq;
+            try {
+                yaml.save(stateFile);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to save boss state: " + e.getMessage());
+            }
         }
     }
 
@@ -147,8 +155,10 @@ public class BossStateManager {
      * Delete the state file.
      */
     public void clear() {
-        if (stateFile.exists()) {
-            stateFile.delete();
+        synchronized (fileLock) {
+            if (stateFile.exists()) {
+                stateFile.delete();
+            }
         }
     }
 }
@@ -3,8 +3,6 @@ package dev.salyvn.slBossSpawner.persist;
 import dev.salyvn.slBossSpawner.SLBossSpawner;
 import org.bukkit.configuration.file.YamlConfiguration;
 
-import org.bukkit.Bukkit;
-
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
@@ -12,6 +10,7 @@ import java.util.*;
 /**
  * Manages pending rewards for offline players.
  * Rewards are queued and delivered when the player joins.
+ * Queued from region threads on Folia, so access to the map is synchronized.
  */
 public class PendingRewardManager {
     private final SLBossSpawner plugin;
@@ -30,7 +29,7 @@ public class PendingRewardManager {
     /**
      * Queue a command reward for an offline player.
      */
-    public void queueCommand(UUID playerUuid, String command) {
+    public synchronized void queueCommand(UUID playerUuid, String command) {
         pendingRewards.computeIfAbsent(playerUuid, k -> new ArrayList<>())
                 .add(new PendingReward("command", command, null, null, 0, null));
         save();
@@ -39,7 +38,7 @@ public class PendingRewardManager {
     /**
      * Queue an item reward for an offline player.
      */
-    public void queueItem(UUID playerUuid, String material, String displayName, int amount, String mmoitemsId) {
+    public synchronized void queueItem(UUID playerUuid, String material, String displayName, int amount, String mmoitemsId) {
         pendingRewards.computeIfAbsent(playerUuid, k -> new ArrayList<>())
                 .add(new PendingReward("item", null, material, displayName, amount, mmoitemsId));
         save();
@@ -48,7 +47,7 @@ public class PendingRewardManager {
     /**
      * Get and clear pending rewards for a player.
      */
-    public List<PendingReward> claimRewards(UUID playerUuid) {
+    public synchronized List<PendingReward> claimRewards(UUID playerUuid) {
         List<PendingReward> rewards = pendingRewards.remove(playerUuid);
         if (rewards != null) {
             save();
@@ -56,7 +55,7 @@ public class PendingRewardManager {
         return rewards != null ? rewards : List.of();
     }
 
-    public boolean hasPending(UUID playerUuid) {
+    public synchronized boolean hasPending(UUID playerUuid) {
         List<PendingReward> list = pendingRewards.get(playerUuid);
         return list != null && !list.isEmpty();
     }
@@ -112,21 +111,23 @@ public class PendingRewardManager {
         plugin.debug("Loaded pending rewards for " + pendingRewards.size() + " players");
     }
 
-    private void save() {
+    private synchronized void save() {
         if (savePending) return;
         savePending = true;
 
         // Debounce: schedule a single save 1 tick later, coalescing rapid calls
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            savePending = false;
-            saveNow();
+        plugin.getTaskScheduler().runGlobalLater(() -> {
+            synchronized (this) {
+                savePending = false;
+                saveNow();
+            }
         }, 1L);
     }
 
     /**
      * Immediate synchronous save. Called on server shutdown.
      */
-    public void saveSync() {
+    public synchronized void saveSync() {
         savePending = false;
         YamlConfiguration yaml = buildYaml();
         try {
@@ -138,7 +139,7 @@ public class PendingRewardManager {
 
     private void saveNow() {
         YamlConfiguration yaml = buildYaml();
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getTaskScheduler().runAsync(() -> {
             try {
                 yaml.save(pendingFile);
             } catch (IOException e) {
@@ -148,7 +149,7 @@ public class PendingRewardManager {
     }
 
     private YamlConfiguration buildYaml() {
-        // Build YAML snapshot on main thread
+        // Build YAML snapshot under the lock
         YamlConfiguration yaml = new YamlConfiguration();
 
         for (Map.Entry<UUID, List<PendingReward>> entry : pendingRewards.entrySet()) {
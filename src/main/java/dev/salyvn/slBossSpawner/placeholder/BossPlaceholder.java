@@ -3,6 +3,8 @@ package dev.salyvn.slBossSpawner.placeholder;
 import dev.salyvn.slBossSpawner.SLBossSpawner;
 import dev.salyvn.slBossSpawner.boss.BossInstance;
 import dev.salyvn.slBossSpawner.boss.BossScheduler;
+import dev.salyvn.slBossSpawner.listener.ContributionTable;
+import dev.salyvn.slBossSpawner.listener.DamageBucket;
 import dev.salyvn.slBossSpawner.utils.TimeUtils;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
@@ -55,6 +57,12 @@ public class BossPlaceholder extends PlaceholderExpansion {
         if (instance == null)
             return null;
 
+        // The requesting player's damage in the running fight: damage, damage_melee, damage_pet, ...
+        String key = placeholder.toLowerCase();
+        if (key.equals("damage") || key.startsWith("damage_")) {
+            return fightDamage(player, instance, key);
+        }
+
         return switch (placeholder.toLowerCase()) {
             case "current_boss", "current" ->
                 instance.isAlive() ? instance.getConfig().getMythicMobId() : "None";
@@ -70,9 +78,33 @@ public class BossPlaceholder extends PlaceholderExpansion {
             }
             case "status" ->
                 instance.isAlive() ? "Alive" : "Dead";
+            case "state" ->
+                instance.getState().name();
             case "mythicmob", "mob" ->
                 instance.getConfig().getMythicMobId();
             default -> null;
         };
     }
+
+    private String fightDamage(OfflinePlayer player, BossInstance instance, String key) {
+        int column = ContributionTable.DAMAGE;
+        if (!key.equals("damage")) {
+            DamageBucket bucket = null;
+            for (DamageBucket candidate : DamageBucket.values()) {
+                if (key.equals("damage_" + candidate.key())) {
+                    bucket = candidate;
+                }
+            }
+            if (bucket == null)
+                return null;
+            column = bucket.column();
+        }
+
+        ContributionTable table = instance.getEntityUuid() != null
+            ? plugin.getCombatListener().getTable(instance.getEntityUuid()) : null;
+        int handle = player != null ? plugin.getPlayerRegistry().find(player.getUniqueId()) : -1;
+        if (table == null || handle < 0)
+            return "0";
+        return String.format("%.1f", table.get(column, handle));
+    }
 }
@@ -2,8 +2,8 @@ package dev.salyvn.slBossSpawner.reward;
 
 import dev.salyvn.slBossSpawner.SLBossSpawner;
 import dev.salyvn.slBossSpawner.utils.ColorUtils;
+import dev.salyvn.slBossSpawner.utils.ListenerRegistration;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
@@ -12,30 +12,55 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
  * Protects dropped reward items so only the owner can pick them up.
- * Uses PersistentDataContainer on the Item entity.
+ * Uses PersistentDataContainer on the Item entity; expiry runs on the shared TimeoutWheel.
+ * The pickup handler is registered only while some protection window is open.
  */
 public class ItemProtectionListener implements Listener {
     private final SLBossSpawner plugin;
     private final NamespacedKey ownerKey;
     private final NamespacedKey expireKey;
     private final NamespacedKey actionKey;
-
-    // Track expiry tasks by item entity UUID
-    private final Map<UUID, BukkitTask> expiryTasks = new HashMap<>();
+    private final ListenerRegistration registration;
+    // Protection windows still open; the pickup handler is registered only while > 0
+    private int openWindows;
 
     public ItemProtectionListener(SLBossSpawner plugin) {
         this.plugin = plugin;
         this.ownerKey = new NamespacedKey(plugin, "reward_owner");
         this.expireKey = new NamespacedKey(plugin, "reward_expire");
         this.actionKey = new NamespacedKey(plugin, "reward_expire_action");
+        this.registration = new ListenerRegistration(plugin, this);
+    }
+
+    /**
+     * Items tagged before a restart keep their protection in PDC, but their timeouts are gone.
+     * Keep the pickup handler on for the longest configured protection after startup.
+     */
+    public void protectStartupDrops(int maxDurationSeconds) {
+        if (maxDurationSeconds <= 0) return;
+        openWindow(maxDurationSeconds);
+    }
+
+    private void openWindow(int durationSeconds) {
+        acquireWindow();
+        plugin.getTimeoutWheel().schedule(durationSeconds * 20L, this::closeWindow);
+    }
+
+    private synchronized void acquireWindow() {
+        openWindows++;
+        registration.setActive(true);
+    }
+
+    private synchronized void closeWindow() {
+        if (--openWindows <= 0) {
+            openWindows = 0;
+            registration.setActive(false);
+        }
     }
 
     /**
@@ -48,23 +73,26 @@ public class ItemProtectionListener implements Listener {
         pdc.set(expireKey, PersistentDataType.LONG, expireEpoch);
         pdc.set(actionKey, PersistentDataType.STRING, expireAction);
 
-        // Schedule expiry
-        BukkitTask task = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (!item.isValid() || item.isDead()) return;
-
-            if ("despawn".equalsIgnoreCase(expireAction)) {
-                item.remove();
-            } else {
-                // Make public: remove protection tags
-                PersistentDataContainer container = item.getPersistentDataContainer();
-                container.remove(ownerKey);
-                container.remove(expireKey);
-                container.remove(actionKey);
-            }
-            expiryTasks.remove(item.getUniqueId());
-        }, durationSeconds * 20L);
-
-        expiryTasks.put(item.getUniqueId(), task);
+        // One timeout per drop: its expiry also closes the window that keeps the pickup handler registered
+        acquireWindow();
+        plugin.getTimeoutWheel().schedule(durationSeconds * 20L, () -> {
+            closeWindow();
+            plugin.getTaskScheduler().runAtEntity(item, () -> expire(item, expireAction), null);
+        });
+    }
+
+    private void expire(Item item, String expireAction) {
+        if (!item.isValid() || item.isDead()) return;
+
+        if ("despawn".equalsIgnoreCase(expireAction)) {
+            item.remove();
+        } else {
+            // Make public: remove protection tags
+            PersistentDataContainer container = item.getPersistentDataContainer();
+            container.remove(ownerKey);
+            container.remove(expireKey);
+            container.remove(actionKey);
+        }
     }
 
     @EventHandler
@@ -106,11 +134,4 @@ public class ItemProtectionListener implements Listener {
             player.sendActionBar(component);
         }
     }
-
-    public void cleanup() {
-        for (BukkitTask task : expiryTasks.values()) {
-            task.cancel();
-        }
-        expiryTasks.clear();
-    }
 }
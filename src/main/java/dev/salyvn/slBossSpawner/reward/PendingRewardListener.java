@@ -34,7 +34,7 @@ public class PendingRewardListener implements Listener {
         if (!manager.hasPending(player.getUniqueId())) return;
 
         // Delay delivery by 2 seconds to ensure player is fully loaded
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTaskScheduler().runAtEntityLater(player, () -> {
             List<PendingReward> rewards = manager.claimRewards(player.getUniqueId());
             if (rewards.isEmpty()) return;
 
@@ -45,7 +45,8 @@ public class PendingRewardListener implements Listener {
                         plugin.getLogger().warning("Blocked suspicious pending command: " + cmd);
                         continue;
                     }
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd);
+                    plugin.getTaskScheduler().runGlobal(
+                        () -> Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd));
                 } else if ("item".equals(reward.type())) {
                     deliverItem(player, reward);
                 }
@@ -56,7 +57,7 @@ public class PendingRewardListener implements Listener {
             player.sendMessage(msg);
 
             plugin.debug("Delivered " + rewards.size() + " pending rewards to " + player.getName());
-        }, 40L); // 2 seconds delay
+        }, null, 40L); // 2 seconds delay
     }
 
     private void deliverItem(Player player, PendingReward reward) {
@@ -4,6 +4,7 @@ import dev.salyvn.slBossSpawner.SLBossSpawner;
 import dev.salyvn.slBossSpawner.boss.BossConfig;
 import dev.salyvn.slBossSpawner.boss.BossConfig.ItemRewardConfig;
 import dev.salyvn.slBossSpawner.boss.BossConfig.RewardTierConfig;
+import dev.salyvn.slBossSpawner.listener.DamageBucket;
 import dev.salyvn.slBossSpawner.listener.DamageResult;
 import dev.salyvn.slBossSpawner.listener.DamageResult.PlayerDamageEntry;
 import dev.salyvn.slBossSpawner.listener.SupportResult;
@@ -19,11 +20,17 @@ import org.bukkit.inventory.meta.ItemMeta;
 import java.util.*;
 
 /**
- * Distributes rewards per category (damage, tank, support) when a boss dies.
+ * Distributes rewards per category (damage, damage by cause, tank, support) when a boss dies.
  * Handles commands, drop tables, vanilla items, MMOItems, MythicMobs items, and
  * offline queuing.
+ *
+ * Called on the boss's region thread. Console commands are dispatched on the global
+ * thread and inventory changes on each player's own thread.
  */
 public class RewardManager {
+    // Ranking lines broadcast per category
+    public static final int BROADCAST_RANKS = 10;
+
     private final SLBossSpawner plugin;
     private final ItemProtectionListener itemProtection;
 
@@ -32,16 +39,36 @@ public class RewardManager {
         this.itemProtection = itemProtection;
     }
 
+    /**
+     * How many ranked players a category needs: the broadcast plus the deepest rewarded rank.
+     */
+    public static int rankingDepth(List<RewardTierConfig> tiers) {
+        int depth = BROADCAST_RANKS;
+        for (RewardTierConfig tier : tiers) {
+            depth = Math.max(depth, tier.rank());
+        }
+        return depth;
+    }
+
     /**
      * Main entry: distribute all category rewards.
      */
     public void distributeAllRewards(BossConfig config, DamageResult damageResult,
-            TankResult tankResult, SupportResult supportResult) {
+            Map<DamageBucket, DamageResult> causeResults, TankResult tankResult, SupportResult supportResult) {
         // Damage category
         if (config.isDamageRewardsEnabled() && !damageResult.rankings().isEmpty()) {
             distributeDamageRewards(config, damageResult);
         }
 
+        // Damage rankings by cause, each with its own tiers
+        if (config.isDamageRewardsEnabled()) {
+            for (Map.Entry<DamageBucket, DamageResult> cause : causeResults.entrySet()) {
+                if (!cause.getValue().rankings().isEmpty()) {
+                    distributeCauseRewards(config, cause.getKey(), cause.getValue());
+                }
+            }
+        }
+
         // Tank category
         if (config.isTankRewardsEnabled() && !tankResult.rankings().isEmpty()) {
             distributeTankRewards(config, tankResult);
@@ -64,7 +91,7 @@ public class RewardManager {
 
         // Build ranking broadcast lines
         List<String> rankingLines = new ArrayList<>();
-        for (int i = 0; i < rankings.size() && i < 10; i++) {
+        for (int i = 0; i < rankings.size() && i < BROADCAST_RANKS; i++) {
             PlayerDamageEntry entry = rankings.get(i);
             double percent = result.totalDamage() > 0
                     ? (entry.damage() / result.totalDamage()) * 100
@@ -75,7 +102,13 @@ public class RewardManager {
             ph.put("player_name", entry.playerName());
             ph.put("damage", String.format("%.1f", entry.damage()));
             ph.put("percent", String.format("%.1f", percent));
+            for (DamageBucket bucket : DamageBucket.values()) {
+                ph.put(bucket.key(), String.format("%.1f", entry.breakdown().get(bucket)));
+            }
             rankingLines.add(mm.getRawMessage("ranking-entry", ph));
+            if (mm.hasMessage("ranking-breakdown")) {
+                rankingLines.add(mm.getRawMessage("ranking-breakdown", ph));
+            }
         }
 
         plugin.getBroadcastManager().broadcastCategoryRanking(config,
@@ -100,6 +133,55 @@ public class RewardManager {
         }
     }
 
+    private void distributeCauseRewards(BossConfig config, DamageBucket bucket, DamageResult result) {
+        List<RewardTierConfig> tiers = config.getCauseRewardTiers().getOrDefault(bucket, List.of());
+        if (tiers.isEmpty())
+            return;
+
+        double globalMult = config.getGlobalMultiplier();
+        List<PlayerDamageEntry> rankings = result.rankings();
+        var mm = plugin.getMessageManager();
+
+        // Message files from before per-cause rankings fall back to the damage ranking lines
+        String causeKey = "damage-cause-" + bucket.key();
+        String causeName = mm.hasMessage(causeKey) ? mm.getRawMessage(causeKey) : bucket.key();
+        boolean causeLines = mm.hasMessage("cause-ranking-entry");
+
+        // Build ranking broadcast lines
+        List<String> rankingLines = new ArrayList<>();
+        for (int i = 0; i < rankings.size() && i < BROADCAST_RANKS; i++) {
+            PlayerDamageEntry entry = rankings.get(i);
+            double percent = result.totalDamage() > 0
+                    ? (entry.damage() / result.totalDamage()) * 100
+                    : 0;
+
+            Map<String, String> ph = new HashMap<>();
+            ph.put("rank", String.valueOf(i + 1));
+            ph.put("player_name", entry.playerName());
+            ph.put("damage", String.format("%.1f", entry.damage()));
+            ph.put("percent", String.format("%.1f", percent));
+            ph.put("cause", causeName);
+            rankingLines.add(mm.getRawMessage(causeLines ? "cause-ranking-entry" : "ranking-entry", ph));
+        }
+
+        plugin.getBroadcastManager().broadcastCategoryRanking(config,
+                causeLines ? "cause-ranking-header" : "ranking-header",
+                causeLines ? "cause-ranking-footer" : "ranking-footer",
+                rankingLines, Map.of("cause", causeName));
+
+        // Distribute per-tier rewards; the last-hit bonus only applies to the damage ranking
+        for (RewardTierConfig tier : tiers) {
+            int rankIndex = tier.rank() - 1;
+            if (rankIndex >= rankings.size())
+                continue;
+
+            PlayerDamageEntry entry = rankings.get(rankIndex);
+            double effectiveMult = tier.multiplier() * globalMult;
+
+            distributeRewardsToPlayer(config, tier, entry.playerUuid(), entry.playerName(), effectiveMult);
+        }
+    }
+
     private void distributeTankRewards(BossConfig config, TankResult result) {
         List<RewardTierConfig> tiers = config.getTankRewardTiers();
         if (tiers.isEmpty())
@@ -111,7 +193,7 @@ public class RewardManager {
 
         // Build ranking broadcast lines
         List<String> rankingLines = new ArrayList<>();
-        for (int i = 0; i < rankings.size() && i < 10; i++) {
+        for (int i = 0; i < rankings.size() && i < BROADCAST_RANKS; i++) {
             TankResult.PlayerTankEntry entry = rankings.get(i);
             double percent = result.totalDamageTaken() > 0
                     ? (entry.damageTaken() / result.totalDamageTaken()) * 100
@@ -152,7 +234,7 @@ public class RewardManager {
 
         // Build ranking broadcast lines
         List<String> rankingLines = new ArrayList<>();
-        for (int i = 0; i < rankings.size() && i < 10; i++) {
+        for (int i = 0; i < rankings.size() && i < BROADCAST_RANKS; i++) {
             SupportResult.PlayerSupportEntry entry = rankings.get(i);
             double percent = result.totalSupportScore() > 0
                     ? (entry.supportScore() / result.totalSupportScore()) * 100
@@ -198,7 +280,7 @@ public class RewardManager {
         for (String cmd : tier.commands()) {
             String resolved = cmd.replace("{player}", safeName);
             if (player != null) {
-                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), resolved);
+                dispatchConsole(resolved);
             } else {
                 plugin.getPendingRewardManager().queueCommand(playerUuid, resolved);
             }
@@ -214,7 +296,7 @@ public class RewardManager {
                         continue;
                     }
                     String cmd = "mm items droptable " + safeTable + " 1 " + safeName;
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd);
+                    dispatchConsole(cmd);
                     plugin.debug("Executed drop table '" + dropTable + "' for " + safeName);
                 } catch (Exception e) {
                     plugin.getLogger().warning("Failed to give drop table '" + dropTable + "': " + e.getMessage());
@@ -326,10 +408,21 @@ public class RewardManager {
         }
     }
 
+    private void dispatchConsole(String command) {
+        plugin.getTaskScheduler().runGlobal(
+                () -> Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command));
+    }
+
     /**
      * Give item to player inventory or drop at location with pickup protection.
      */
     private void giveOrDrop(Player player, ItemStack stack, BossConfig config) {
+        plugin.getTaskScheduler().runAtEntity(player, () -> giveOrDropOwned(player, stack, config),
+                () -> plugin.getLogger().warning("Player " + player.getName()
+                        + " left before receiving reward " + stack.getType()));
+    }
+
+    private void giveOrDropOwned(Player player, ItemStack stack, BossConfig config) {
         Map<Integer, ItemStack> leftover = player.getInventory().addItem(stack);
         if (!leftover.isEmpty()) {
             for (ItemStack item : leftover.values()) {
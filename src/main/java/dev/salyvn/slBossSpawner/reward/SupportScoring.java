@@ -0,0 +1,141 @@
+package dev.salyvn.slBossSpawner.reward;
+
+import org.bukkit.Registry;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compiled support scoring rules for one boss: debuffs on the boss (reward.yml
+ * {@code support.scoring}) or buffs on fight participants ({@code support.ally-scoring}).
+ * Rules are flattened into dense arrays indexed by the effect's numeric registry id, so scoring
+ * an effect is one array load, and effects without a weight return 0 straight away.
+ * Score: weight * level * seconds, where level comes from the amplifier curve
+ * (amplifier + 1 when none is set) and seconds is the duration, capped at max-seconds.
+ * Instant effects have no duration and always count as max-seconds, or as
+ * {@link #DEFAULT_INSTANT_SECONDS} when max-seconds is 0.
+ */
+public final class SupportScoring {
+    // Instant effects without an explicit cap, e.g. instant_damage
+    public static final double DEFAULT_INSTANT_SECONDS = 10.0;
+    // Support points per health point healed on a fight participant
+    public static final double DEFAULT_HEAL_WEIGHT = 1.0;
+
+    private final double[] weights;     // 0 = not scored
+    private final double[] maxSeconds;  // 0 = uncapped
+    private final double[][] curves;    // null = linear (amplifier + 1)
+    private final boolean[] instant;
+
+    private SupportScoring(int size) {
+        weights = new double[size];
+        maxSeconds = new double[size];
+        curves = new double[size][];
+        instant = new boolean[size];
+    }
+
+    /**
+     * Compile rules into the id-indexed table.
+     */
+    @SuppressWarnings("deprecation") // numeric registry id, only used as an in-memory index
+    public static SupportScoring compile(Map<PotionEffectType, Rule> rules) {
+        int size = 0;
+        for (PotionEffectType type : Registry.EFFECT) {
+            size = Math.max(size, type.getId() + 1);
+        }
+
+        SupportScoring scoring = new SupportScoring(size);
+        for (Map.Entry<PotionEffectType, Rule> entry : rules.entrySet()) {
+            int id = entry.getKey().getId();
+            Rule rule = entry.getValue();
+            if (id < 0 || id >= size || rule.weight() <= 0) continue;
+
+            scoring.weights[id] = rule.weight();
+            scoring.maxSeconds[id] = rule.maxSeconds();
+            scoring.curves[id] = rule.amplifierCurve().length > 0 ? rule.amplifierCurve() : null;
+            scoring.instant[id] = entry.getKey().isInstant();
+        }
+        return scoring;
+    }
+
+    /**
+     * The built-in harmful effect list at weight 1, used when a boss has no scoring section.
+     */
+    public static SupportScoring defaults() {
+        return compile(defaultRules());
+    }
+
+    /**
+     * Built-in beneficial effects at weight 1, used when a boss has no ally-scoring section.
+     * Instant health is scored by the health it restores, not here.
+     */
+    public static SupportScoring allyDefaults() {
+        Map<PotionEffectType, Rule> rules = new LinkedHashMap<>();
+        for (PotionEffectType type : new PotionEffectType[] {
+                PotionEffectType.REGENERATION,
+                PotionEffectType.RESISTANCE,
+                PotionEffectType.STRENGTH,
+                PotionEffectType.SPEED,
+                PotionEffectType.ABSORPTION,
+                PotionEffectType.FIRE_RESISTANCE,
+                PotionEffectType.HEALTH_BOOST}) {
+            rules.put(type, new Rule(1.0, 0, new double[0]));
+        }
+        return compile(rules);
+    }
+
+    public static Map<PotionEffectType, Rule> defaultRules() {
+        Map<PotionEffectType, Rule> rules = new LinkedHashMap<>();
+        for (PotionEffectType type : new PotionEffectType[] {
+                PotionEffectType.SLOWNESS,
+                PotionEffectType.MINING_FATIGUE,
+                PotionEffectType.INSTANT_DAMAGE,
+                PotionEffectType.NAUSEA,
+                PotionEffectType.BLINDNESS,
+                PotionEffectType.HUNGER,
+                PotionEffectType.WEAKNESS,
+                PotionEffectType.POISON,
+                PotionEffectType.WITHER,
+                PotionEffectType.LEVITATION,
+                PotionEffectType.UNLUCK,
+                PotionEffectType.DARKNESS,
+                PotionEffectType.INFESTED,
+                PotionEffectType.OOZING,
+                PotionEffectType.WEAVING,
+                PotionEffectType.WIND_CHARGED}) {
+            rules.put(type, new Rule(1.0, type.isInstant() ? DEFAULT_INSTANT_SECONDS : 0, new double[0]));
+        }
+        return rules;
+    }
+
+    /**
+     * Score of one applied effect, 0 when the effect is not scored for this boss.
+     */
+    @SuppressWarnings("deprecation")
+    public double score(PotionEffectType type, int amplifier, int durationTicks) {
+        int id = type.getId();
+        if (id < 0 || id >= weights.length) return 0;
+
+        double weight = weights[id];
+        if (weight == 0) return 0;
+
+        double[] curve = curves[id];
+        int level = Math.max(0, amplifier);
+        double multiplier = curve == null ? level + 1 : curve[Math.min(level, curve.length - 1)];
+
+        double cap = maxSeconds[id];
+        // "Uncapped" means nothing for an instant effect: it would otherwise score 0
+        double seconds = instant[id] ? (cap > 0 ? cap : DEFAULT_INSTANT_SECONDS) : durationTicks / 20.0;
+        if (cap > 0) {
+            seconds = Math.min(seconds, cap);
+        }
+        return weight * multiplier * seconds;
+    }
+
+    /**
+     * One effect's rule as written in reward.yml.
+     * @param maxSeconds duration cap in seconds, 0 for none (instant effects then count DEFAULT_INSTANT_SECONDS)
+     * @param amplifierCurve multiplier per amplifier level (last value repeats), empty for amplifier + 1
+     */
+    public record Rule(double weight, double maxSeconds, double[] amplifierCurve) {}
+}
@@ -0,0 +1,93 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Single main thread implementation for Paper/Spigot.
+ */
+final class BukkitTaskScheduler implements TaskScheduler {
+    private final Plugin plugin;
+
+    BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isFolia() {
+        return false;
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        BukkitTask handle = Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks);
+        return handle::cancel;
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        BukkitTask handle = Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks);
+        return handle::cancel;
+    }
+
+    @Override
+    public void runAtLocation(Location location, Runnable task) {
+        runGlobal(task);
+    }
+
+    @Override
+    public void runAtEntity(Entity entity, Runnable task, Runnable retired) {
+        runGlobal(() -> {
+            if (entity.isValid()) {
+                task.run();
+            } else if (retired != null) {
+                retired.run();
+            }
+        });
+    }
+
+    @Override
+    public TaskHandle runAtEntityLater(Entity entity, Runnable task, Runnable retired, long delayTicks) {
+        return runGlobalLater(() -> {
+            if (entity.isValid()) {
+                task.run();
+            } else if (retired != null) {
+                retired.run();
+            }
+        }, delayTicks);
+    }
+
+    @Override
+    public TaskHandle runAtEntityTimer(Entity entity, Runnable task, Runnable retired,
+                                       long delayTicks, long periodTicks) {
+        // Like Folia, stop the timer once the entity is gone and run retired a single time
+        BukkitTask handle = Bukkit.getScheduler().runTaskTimer(plugin, self -> {
+            if (entity.isValid()) {
+                task.run();
+            } else {
+                self.cancel();
+                if (retired != null) {
+                    retired.run();
+                }
+            }
+        }, delayTicks, periodTicks);
+        return handle::cancel;
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Region-threaded implementation for Folia.
+ */
+final class FoliaTaskScheduler implements TaskScheduler {
+    private static final boolean SUPPORTED = detect();
+
+    private final Plugin plugin;
+
+    FoliaTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    private static boolean detect() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isFolia() {
+        return true;
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        if (Bukkit.isGlobalTickThread() || !plugin.isEnabled()) {
+            task.run();
+        } else {
+            Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+        }
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        ScheduledTask handle = Bukkit.getGlobalRegionScheduler()
+            .runDelayed(plugin, t -> task.run(), Math.max(1L, delayTicks));
+        return handle::cancel;
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        ScheduledTask handle = Bukkit.getGlobalRegionScheduler()
+            .runAtFixedRate(plugin, t -> task.run(), Math.max(1L, delayTicks), periodTicks);
+        return handle::cancel;
+    }
+
+    @Override
+    public void runAtLocation(Location location, Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(location) || !plugin.isEnabled()) {
+            task.run();
+        } else {
+            Bukkit.getRegionScheduler().execute(plugin, location, task);
+        }
+    }
+
+    @Override
+    public void runAtEntity(Entity entity, Runnable task, Runnable retired) {
+        // Disabled plugins cannot schedule; regions are already halted during shutdown
+        if (Bukkit.isOwnedByCurrentRegion(entity) || !plugin.isEnabled()) {
+            task.run();
+            return;
+        }
+        if (!entity.getScheduler().execute(plugin, task, retired, 1L) && retired != null) {
+            retired.run();
+        }
+    }
+
+    @Override
+    public TaskHandle runAtEntityLater(Entity entity, Runnable task, Runnable retired, long delayTicks) {
+        ScheduledTask handle = entity.getScheduler()
+            .runDelayed(plugin, t -> task.run(), retired, Math.max(1L, delayTicks));
+        return wrapEntityTask(handle, retired);
+    }
+
+    @Override
+    public TaskHandle runAtEntityTimer(Entity entity, Runnable task, Runnable retired,
+                                       long delayTicks, long periodTicks) {
+        ScheduledTask handle = entity.getScheduler()
+            .runAtFixedRate(plugin, t -> task.run(), retired, Math.max(1L, delayTicks), periodTicks);
+        return wrapEntityTask(handle, retired);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, t -> task.run());
+    }
+
+    private static TaskHandle wrapEntityTask(ScheduledTask handle, Runnable retired) {
+        // Null means the entity was already removed
+        if (handle == null) {
+            if (retired != null) retired.run();
+            return TaskHandle.NONE;
+        }
+        return handle::cancel;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+import dev.salyvn.slBossSpawner.config.ConfigManager;
+import org.bukkit.Bukkit;
+
+/**
+ * Recent server load from Paper's MSPT/TPS counters, sampled at most once per second.
+ * Folia has no global tick to measure, so load is reported as unknown and never throttles.
+ */
+public class ServerLoad {
+    private static final long SAMPLE_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final SLBossSpawner plugin;
+    private volatile boolean supported;
+    private volatile long sampledAt;
+    private volatile double mspt = -1;
+    private volatile double tps = -1;
+
+    public ServerLoad(SLBossSpawner plugin) {
+        this.plugin = plugin;
+        this.supported = !plugin.getTaskScheduler().isFolia();
+    }
+
+    /**
+     * True while MSPT is above or TPS below the configured throttle thresholds.
+     */
+    public boolean isOverBudget() {
+        sample();
+        if (mspt < 0) return false;
+
+        ConfigManager config = plugin.getConfigManager();
+        return mspt > config.getThrottleMaxMspt() || tps < config.getThrottleMinTps();
+    }
+
+    /** Average tick time in ms over the last 100 ticks, or -1 if unknown. */
+    public double getMspt() {
+        sample();
+        return mspt;
+    }
+
+    /** One-minute TPS, or -1 if unknown. */
+    public double getTps() {
+        sample();
+        return tps;
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        if (!supported || (sampledAt != 0 && now - sampledAt < SAMPLE_INTERVAL_NANOS)) return;
+        sampledAt = now;
+
+        try {
+            mspt = Bukkit.getAverageTickTime();
+            tps = Bukkit.getTPS()[0];
+        } catch (UnsupportedOperationException | NoSuchMethodError e) {
+            supported = false;
+            mspt = -1;
+            tps = -1;
+            plugin.debug("Server MSPT/TPS not available, load throttling disabled");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+/**
+ * Cancellable handle for a task submitted through {@link TaskScheduler}.
+ */
+@FunctionalInterface
+public interface TaskHandle {
+    TaskHandle NONE = () -> {};
+
+    void cancel();
+}
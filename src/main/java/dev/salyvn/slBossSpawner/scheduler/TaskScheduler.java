@@ -0,0 +1,45 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Thread-placement abstraction over the Bukkit and Folia schedulers.
+ * On Paper every target is the main thread. On Folia, global work runs on the global
+ * region, location/entity work on the region that owns it, so arenas tick in parallel.
+ *
+ * The run* methods without a delay execute inline when the caller already owns the target.
+ */
+public interface TaskScheduler {
+
+    static TaskScheduler create(Plugin plugin) {
+        return FoliaTaskScheduler.isSupported()
+            ? new FoliaTaskScheduler(plugin)
+            : new BukkitTaskScheduler(plugin);
+    }
+
+    boolean isFolia();
+
+    /** Run on the global thread (main thread on Paper). */
+    void runGlobal(Runnable task);
+
+    TaskHandle runGlobalLater(Runnable task, long delayTicks);
+
+    TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /** Run on the thread owning the region at this location. */
+    void runAtLocation(Location location, Runnable task);
+
+    /**
+     * Run on the thread owning this entity.
+     * @param retired called instead if the entity is removed first; may be null
+     */
+    void runAtEntity(Entity entity, Runnable task, Runnable retired);
+
+    TaskHandle runAtEntityLater(Entity entity, Runnable task, Runnable retired, long delayTicks);
+
+    TaskHandle runAtEntityTimer(Entity entity, Runnable task, Runnable retired, long delayTicks, long periodTicks);
+
+    void runAsync(Runnable task);
+}
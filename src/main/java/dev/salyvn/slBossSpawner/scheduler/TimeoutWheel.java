@@ -0,0 +1,209 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+import dev.salyvn.slBossSpawner.SLBossSpawner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical timing wheel that owns all plugin timeouts (boss expiry, item protection).
+ * Four levels of 64 slots at 1, 64, 4096 and 262144 ticks per slot cover ~9.7 days;
+ * longer delays are clamped. Insert and cancel are O(1); a single 1-tick driver task
+ * runs only while timeouts are pending.
+ *
+ * The wheel advances on the global thread but accepts inserts and cancels from any
+ * region thread; callbacks that touch entities must hop to the entity's own thread.
+ */
+public class TimeoutWheel {
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    // Starts the 1-tick driver that calls advance()
+    private final Function<Runnable, TaskHandle> driver;
+    private final Logger logger;
+    // Sentinel heads of circular doubly-linked lists, one per slot
+    private final Timeout[][] wheel = new Timeout[LEVELS][SLOTS];
+    private final Timeout due = new Timeout(null, null);
+    private final List<Runnable> firing = new ArrayList<>();
+    private long currentTick;
+    private int size;
+    private TaskHandle task;
+
+    public TimeoutWheel(SLBossSpawner plugin) {
+        this(advance -> plugin.getTaskScheduler().runGlobalTimer(advance, 1L, 1L), plugin.getLogger());
+    }
+
+    TimeoutWheel(Function<Runnable, TaskHandle> driver, Logger logger) {
+        this.driver = driver;
+        this.logger = logger;
+        for (Timeout[] level : wheel) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Timeout(null, null);
+            }
+        }
+    }
+
+    /**
+     * Run an action after the given number of ticks (minimum 1).
+     */
+    public synchronized Timeout schedule(long delayTicks, Runnable action) {
+        long delay = Math.max(1L, Math.min(MAX_DELAY_TICKS, delayTicks));
+        Timeout timeout = new Timeout(this, action);
+        timeout.deadline = currentTick + delay;
+        place(timeout);
+        size++;
+
+        if (task == null) {
+            task = driver.apply(this::advance);
+        }
+        return timeout;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Drop every pending timeout without running it.
+     */
+    public synchronized void clear() {
+        for (Timeout[] level : wheel) {
+            for (Timeout head : level) {
+                while (head.next != head) {
+                    unlink(head.next);
+                }
+            }
+        }
+        size = 0;
+        stopTask();
+    }
+
+    private void place(Timeout timeout) {
+        long diff = timeout.deadline ^ currentTick;
+        if (timeout.deadline <= currentTick || diff == 0) {
+            link(due, timeout);
+            return;
+        }
+
+        // Level is the 6-bit group holding the highest bit where deadline and now differ.
+        // A deadline across a top-level boundary lands in the top level; the delay clamp keeps it
+        // within one top-level turn, so it cascades down when its slot comes round.
+        int level = Math.min(LEVELS - 1, (63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS);
+        int slot = (int) (timeout.deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+        link(wheel[level][slot], timeout);
+    }
+
+    void advance() {
+        synchronized (this) {
+            collectDue();
+        }
+
+        // Run outside the lock so callbacks can schedule or cancel freely
+        for (Runnable action : firing) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Timeout callback failed", e);
+            }
+        }
+        firing.clear();
+    }
+
+    private void collectDue() {
+        currentTick++;
+
+        // Cascade higher levels whose slot boundary was just reached, top-down
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            long mask = (1L << (level * SLOT_BITS)) - 1;
+            if ((currentTick & mask) != 0) continue;
+
+            Timeout head = wheel[level][(int) (currentTick >>> (level * SLOT_BITS)) & SLOT_MASK];
+            while (head.next != head) {
+                Timeout timeout = head.next;
+                unlink(timeout);
+                place(timeout);
+            }
+        }
+
+        Timeout head = wheel[0][(int) currentTick & SLOT_MASK];
+        while (head.next != head) {
+            Timeout timeout = head.next;
+            unlink(timeout);
+            link(due, timeout);
+        }
+
+        while (due.next != due) {
+            Timeout timeout = due.next;
+            unlink(timeout);
+            size--;
+            firing.add(timeout.action);
+        }
+
+        if (size == 0) {
+            stopTask();
+        }
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static void link(Timeout head, Timeout timeout) {
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    private static void unlink(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * Handle for a pending timeout. Doubles as its own list node.
+     */
+    public static final class Timeout {
+        private final TimeoutWheel owner;
+        private final Runnable action;
+        private long deadline;
+        private Timeout prev = this;
+        private Timeout next = this;
+
+        private Timeout(TimeoutWheel owner, Runnable action) {
+            this.owner = owner;
+            this.action = action;
+        }
+
+        public boolean isPending() {
+            synchronized (owner) {
+                return prev != null;
+            }
+        }
+
+        /**
+         * Cancel in O(1). Safe to call more than once or after the timeout fired.
+         */
+        public void cancel() {
+            synchronized (owner) {
+                if (prev == null) return;
+                unlink(this);
+                owner.size--;
+                if (owner.size == 0) {
+                    owner.stopTask();
+                }
+            }
+        }
+    }
+}
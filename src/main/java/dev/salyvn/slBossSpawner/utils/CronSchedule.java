@@ -0,0 +1,207 @@
+package dev.salyvn.slBossSpawner.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Cron-style schedule compiled into bitsets.
+ * Format: "minute hour day-of-month month day-of-week", e.g. "0 20 * * SAT,SUN".
+ * Fields accept *, single values, ranges (a-b), lists (a,b) and steps (a-b/n, a/n, or * with /n).
+ * Month and weekday fields also accept three-letter names; weekday 0 and 7 are Sunday.
+ *
+ * Parsed once at load; next fire time is found with bit scans instead of string parsing.
+ */
+public final class CronSchedule {
+    private static final String[] MONTH_NAMES = {
+        "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+    };
+    private static final String[] DAY_NAMES = { "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT" };
+
+    // Upper bound on the day scan; covers Feb 29 schedules across a leap cycle
+    private static final int MAX_SCAN_DAYS = 366 * 8;
+
+    private final String expression;
+    private final long minutes;     // bits 0-59
+    private final long hours;       // bits 0-23
+    private final long daysOfMonth; // bits 1-31
+    private final long months;      // bits 1-12
+    private final long daysOfWeek;  // bits 0-6, 0 = Sunday
+    private final boolean dayOfMonthRestricted;
+    private final boolean dayOfWeekRestricted;
+
+    private CronSchedule(String expression, long minutes, long hours, long daysOfMonth, long months,
+                         long daysOfWeek, boolean dayOfMonthRestricted, boolean dayOfWeekRestricted) {
+        this.expression = expression;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+        this.dayOfMonthRestricted = dayOfMonthRestricted;
+        this.dayOfWeekRestricted = dayOfWeekRestricted;
+    }
+
+    /**
+     * Compile a five-field cron expression.
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static CronSchedule parse(String expression) {
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("expected 5 fields, got " + fields.length);
+        }
+
+        long minutes = parseField(fields[0], 0, 59, null, "minute");
+        long hours = parseField(fields[1], 0, 23, null, "hour");
+        long daysOfMonth = parseField(fields[2], 1, 31, null, "day-of-month");
+        long months = parseField(fields[3], 1, 12, MONTH_NAMES, "month");
+        long daysOfWeek = parseField(fields[4], 0, 7, DAY_NAMES, "day-of-week");
+
+        // 7 is an alias for Sunday
+        if ((daysOfWeek & (1L << 7)) != 0) {
+            daysOfWeek = (daysOfWeek & ~(1L << 7)) | 1L;
+        }
+
+        return new CronSchedule(expression.trim(), minutes, hours, daysOfMonth, months, daysOfWeek,
+            !fields[2].equals("*"), !fields[4].equals("*"));
+    }
+
+    /**
+     * Compile a plain daily "HH:mm" time.
+     */
+    public static CronSchedule daily(LocalTime time) {
+        return new CronSchedule(String.format("%d %d * * *", time.getMinute(), time.getHour()),
+            1L << time.getMinute(), 1L << time.getHour(), bits(1, 31), bits(1, 12), bits(0, 6),
+            false, false);
+    }
+
+    /**
+     * First fire time strictly after the given instant, in its zone. Null if none within the scan window.
+     */
+    public ZonedDateTime next(ZonedDateTime after) {
+        ZonedDateTime start = after.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        LocalDate date = start.toLocalDate();
+        int fromHour = start.getHour();
+        int fromMinute = start.getMinute();
+
+        for (int i = 0; i < MAX_SCAN_DAYS; i++) {
+            if ((months & (1L << date.getMonthValue())) == 0) {
+                // Skip the whole month
+                date = date.withDayOfMonth(1).plusMonths(1);
+                fromHour = 0;
+                fromMinute = 0;
+                continue;
+            }
+
+            if (matchesDay(date)) {
+                for (int h = nextBit(hours, fromHour); h >= 0; h = nextBit(hours, h + 1)) {
+                    int minuteFloor = (h == fromHour) ? fromMinute : 0;
+                    for (int m = nextBit(minutes, minuteFloor); m >= 0; m = nextBit(minutes, m + 1)) {
+                        ZonedDateTime candidate = ZonedDateTime.of(date, LocalTime.of(h, m), after.getZone());
+                        // DST overlaps can map a later wall time onto an earlier instant
+                        if (candidate.isAfter(after)) {
+                            return candidate;
+                        }
+                    }
+                }
+            }
+
+            date = date.plusDays(1);
+            fromHour = 0;
+            fromMinute = 0;
+        }
+
+        return null;
+    }
+
+    private boolean matchesDay(LocalDate date) {
+        boolean domMatch = (daysOfMonth & (1L << date.getDayOfMonth())) != 0;
+        boolean dowMatch = (daysOfWeek & (1L << (date.getDayOfWeek().getValue() % 7))) != 0;
+
+        // Standard cron: when both day fields are restricted, either may match
+        if (dayOfMonthRestricted && dayOfWeekRestricted) return domMatch || dowMatch;
+        if (dayOfMonthRestricted) return domMatch;
+        if (dayOfWeekRestricted) return dowMatch;
+        return true;
+    }
+
+    private static int nextBit(long set, int from) {
+        if (from >= 64) return -1;
+        long masked = set & (-1L << from);
+        return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+    }
+
+    private static long bits(int from, int to) {
+        return (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    private static long parseField(String field, int min, int max, String[] names, String label) {
+        long result = 0;
+        for (String part : field.split(",")) {
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("empty " + label + " entry in '" + field + "'");
+            }
+
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), null, 0, label);
+                if (step <= 0) {
+                    throw new IllegalArgumentException("invalid " + label + " step in '" + part + "'");
+                }
+                range = part.substring(0, slash);
+            }
+
+            int low;
+            int high;
+            if (range.equals("*")) {
+                low = min;
+                high = max;
+            } else {
+                int dash = range.indexOf('-');
+                if (dash > 0) {
+                    low = parseNumber(range.substring(0, dash), names, min, label);
+                    high = parseNumber(range.substring(dash + 1), names, min, label);
+                } else {
+                    low = parseNumber(range, names, min, label);
+                    // "a/n" means "from a to the end in steps of n"
+                    high = slash >= 0 ? max : low;
+                }
+            }
+
+            if (low < min || high > max || low > high) {
+                throw new IllegalArgumentException(label + " out of range in '" + part + "'");
+            }
+
+            for (int v = low; v <= high; v += step) {
+                result |= 1L << v;
+            }
+        }
+        return result;
+    }
+
+    private static int parseNumber(String token, String[] names, int nameBase, String label) {
+        if (names != null) {
+            String upper = token.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) return i + nameBase;
+            }
+        }
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + label + " value '" + token + "'");
+        }
+    }
+
+    public String getExpression() { return expression; }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
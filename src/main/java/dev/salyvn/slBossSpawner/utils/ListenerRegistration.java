@@ -0,0 +1,39 @@
+package dev.salyvn.slBossSpawner.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Registers a listener only while it has work to do.
+ * An unregistered listener is absent from the event's HandlerList, so it costs nothing
+ * on hot events (damage, potion effects, pickups) outside boss fights.
+ */
+public final class ListenerRegistration {
+    private final Plugin plugin;
+    private final Listener listener;
+    private boolean registered;
+
+    public ListenerRegistration(Plugin plugin, Listener listener) {
+        this.plugin = plugin;
+        this.listener = listener;
+    }
+
+    public synchronized void setActive(boolean active) {
+        if (active == registered) return;
+        // Registering on a disabled plugin throws; disabling already unregistered everything
+        if (active && !plugin.isEnabled()) return;
+
+        registered = active;
+        if (active) {
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        } else {
+            HandlerList.unregisterAll(listener);
+        }
+    }
+
+    public synchronized boolean isActive() {
+        return registered;
+    }
+}
@@ -1,8 +1,6 @@
 package dev.salyvn.slBossSpawner.utils;
 
 import java.time.Duration;
-import java.time.LocalTime;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 public class TimeUtils {
@@ -26,16 +24,4 @@ public class TimeUtils {
     public static long getSecondsUntil(ZonedDateTime target) {
         return Duration.between(ZonedDateTime.now(target.getZone()), target).getSeconds();
     }
-
-    public static ZonedDateTime getNextScheduledTime(String timeStr, ZoneId zone) {
-        LocalTime localTime = LocalTime.parse(timeStr);
-        ZonedDateTime now = ZonedDateTime.now(zone);
-        ZonedDateTime scheduled = now.with(localTime);
-
-        if (scheduled.isBefore(now) || scheduled.isEqual(now)) {
-            scheduled = scheduled.plusDays(1);
-        }
-
-        return scheduled;
-    }
 }
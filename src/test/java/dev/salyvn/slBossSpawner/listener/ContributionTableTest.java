@@ -0,0 +1,175 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContributionTableTest {
+    private static final Comparator<ContributionTable.Entry> RANKING =
+        Comparator.comparingDouble(ContributionTable.Entry::value).reversed()
+            .thenComparingInt(ContributionTable.Entry::playerHandle);
+
+    private static List<ContributionTable.Entry> expectedTop(Map<Integer, Double> scores, int k) {
+        List<ContributionTable.Entry> entries = new ArrayList<>();
+        scores.forEach((handle, value) -> {
+            if (value > 0) entries.add(new ContributionTable.Entry(handle, value));
+        });
+        entries.sort(RANKING);
+        return entries.subList(0, Math.min(k, entries.size()));
+    }
+
+    @Test
+    void rowsSurviveProbingAndGrowth() {
+        ContributionTable table = new ContributionTable();
+        // Sequential and widely spaced handles, enough to grow the table several times
+        for (int i = 0; i < 500; i++) {
+            table.add(ContributionTable.DAMAGE, i, i + 1);
+            table.add(ContributionTable.DAMAGE, 100_000 + i * 1024, 0.5);
+        }
+        for (int i = 0; i < 500; i++) {
+            table.add(ContributionTable.DAMAGE, i, 1);
+        }
+
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i + 2, table.get(ContributionTable.DAMAGE, i));
+            assertEquals(0.5, table.get(ContributionTable.DAMAGE, 100_000 + i * 1024));
+        }
+        assertEquals(0, table.get(ContributionTable.DAMAGE, 999_999));
+        assertEquals(500 * 501 / 2.0 + 500 + 250, table.total(ContributionTable.DAMAGE));
+    }
+
+    @Test
+    void detailColumnSharesTheRow() {
+        ContributionTable table = new ContributionTable();
+        table.add(ContributionTable.DAMAGE, DamageBucket.PROJECTILE.column(), 3, 4.0);
+
+        assertEquals(4.0, table.get(ContributionTable.DAMAGE, 3));
+        assertEquals(4.0, table.get(DamageBucket.PROJECTILE.column(), 3));
+        assertEquals(0, table.get(DamageBucket.MELEE.column(), 3));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void tiesRankByLowestHandle() {
+        for (int k : new int[] { 3, ContributionTable.LEADER_SLOTS, 8 }) {
+            ContributionTable table = new ContributionTable();
+            int[] handles = { 9, 4, 31, 2, 17, 6, 40, 1 };
+            for (int handle : handles) {
+                table.add(ContributionTable.DAMAGE, handle, 10);
+            }
+
+            List<ContributionTable.Entry> top = table.top(ContributionTable.DAMAGE, k);
+            int[] expected = { 1, 2, 4, 6, 9, 17, 31, 40 };
+            assertEquals(k, top.size());
+            for (int i = 0; i < k; i++) {
+                assertEquals(expected[i], top.get(i).playerHandle(), "k=" + k + " place " + i);
+            }
+        }
+    }
+
+    @Test
+    void leadersAndHeapMatchSortedScores() {
+        Random random = new Random(7);
+        ContributionTable table = new ContributionTable();
+        Map<Integer, Double> scores = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int handle = random.nextInt(200);
+            // Whole numbers so many scores tie
+            double amount = 1 + random.nextInt(5);
+            table.add(ContributionTable.DAMAGE, handle, amount);
+            scores.merge(handle, amount, Double::sum);
+
+            if (i % 250 == 0) {
+                assertEquals(expectedTop(scores, ContributionTable.LEADER_SLOTS), table.leaders(ContributionTable.DAMAGE));
+            }
+        }
+
+        assertEquals(expectedTop(scores, ContributionTable.LEADER_SLOTS), table.leaders(ContributionTable.DAMAGE));
+        assertEquals(expectedTop(scores, 3), table.top(ContributionTable.DAMAGE, 3));
+        assertEquals(expectedTop(scores, 20), table.top(ContributionTable.DAMAGE, 20));
+        assertEquals(expectedTop(scores, 500), table.top(ContributionTable.DAMAGE, 500));
+    }
+
+    @Test
+    void negativeAddRebuildsLeaders() {
+        ContributionTable table = new ContributionTable();
+        for (int handle = 0; handle < 6; handle++) {
+            table.add(ContributionTable.DAMAGE, handle, 10 + handle);
+        }
+        long version = table.rankVersion(ContributionTable.DAMAGE);
+
+        table.add(ContributionTable.DAMAGE, 5, -15);
+        List<ContributionTable.Entry> leaders = table.leaders(ContributionTable.DAMAGE);
+        assertEquals(List.of(4, 3, 2, 1, 0), leaders.stream().map(ContributionTable.Entry::playerHandle).toList());
+        assertNotEquals(version, table.rankVersion(ContributionTable.DAMAGE));
+    }
+
+    @Test
+    void rankVersionTracksOrderOnly() {
+        ContributionTable table = new ContributionTable();
+        table.add(ContributionTable.DAMAGE, 1, 10);
+        table.add(ContributionTable.DAMAGE, 2, 5);
+        long version = table.rankVersion(ContributionTable.DAMAGE);
+
+        table.add(ContributionTable.DAMAGE, 1, 1);
+        assertEquals(version, table.rankVersion(ContributionTable.DAMAGE));
+
+        table.add(ContributionTable.DAMAGE, 2, 10);
+        assertNotEquals(version, table.rankVersion(ContributionTable.DAMAGE));
+        assertEquals(2, table.leaders(ContributionTable.DAMAGE).get(0).playerHandle());
+    }
+
+    @Test
+    void topSkipsEmptyColumnRows() {
+        ContributionTable table = new ContributionTable();
+        table.add(ContributionTable.DAMAGE, 1, 10);
+        table.add(ContributionTable.TANK, 2, 3);
+
+        assertEquals(List.of(new ContributionTable.Entry(2, 3)), table.top(ContributionTable.TANK, 10));
+        assertEquals(List.of(), table.top(ContributionTable.SUPPORT, 10));
+        assertEquals(List.of(), table.top(ContributionTable.DAMAGE, 0));
+    }
+
+    @Test
+    void supportDoesNotMarkParticipants() {
+        ContributionTable table = new ContributionTable();
+        table.add(ContributionTable.DAMAGE, 3, 1);
+        table.add(ContributionTable.TANK, 130, 1);
+        table.add(ContributionTable.SUPPORT, 7, 1);
+
+        assertTrue(table.isParticipant(3));
+        assertTrue(table.isParticipant(130));
+        assertFalse(table.isParticipant(7));
+        assertFalse(table.isParticipant(100_000));
+        assertArrayEquals(new int[] { 3, 130 }, table.participantHandles());
+    }
+
+    @Test
+    void resetEmptiesEverything() {
+        ContributionTable table = new ContributionTable();
+        for (int handle = 0; handle < 100; handle++) {
+            table.add(ContributionTable.DAMAGE, handle, handle + 1);
+        }
+        long version = table.rankVersion(ContributionTable.DAMAGE);
+
+        table.reset();
+        assertEquals(0, table.size());
+        assertEquals(0, table.total(ContributionTable.DAMAGE));
+        assertEquals(0, table.get(ContributionTable.DAMAGE, 50));
+        assertFalse(table.isParticipant(50));
+        assertEquals(List.of(), table.leaders(ContributionTable.DAMAGE));
+        assertNotEquals(version, table.rankVersion(ContributionTable.DAMAGE));
+
+        table.add(ContributionTable.DAMAGE, 50, 2);
+        assertEquals(List.of(new ContributionTable.Entry(50, 2)), table.top(ContributionTable.DAMAGE, 10));
+    }
+}
@@ -0,0 +1,107 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityIdSetTest {
+    @Test
+    void addRemoveContains() {
+        EntityIdSet set = new EntityIdSet();
+        assertFalse(set.contains(1));
+
+        set.add(1);
+        set.add(1);
+        set.add(42);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(42));
+        assertFalse(set.contains(2));
+
+        set.remove(1);
+        set.remove(1);
+        set.remove(7);
+        assertEquals(1, set.size());
+        assertFalse(set.contains(1));
+        assertTrue(set.contains(42));
+    }
+
+    @Test
+    void membersPastATombstoneStayVisible() {
+        EntityIdSet set = new EntityIdSet();
+        // Enough ids that some share a probe run
+        for (int id = 1; id <= 4; id++) {
+            set.add(id);
+        }
+        for (int id = 1; id <= 3; id++) {
+            set.remove(id);
+            for (int other = id + 1; other <= 4; other++) {
+                assertTrue(set.contains(other), "lost " + other + " after removing " + id);
+            }
+        }
+
+        set.add(2);
+        assertTrue(set.contains(2));
+        assertTrue(set.contains(4));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void churnMatchesHashSet() {
+        Random random = new Random(3);
+        EntityIdSet set = new EntityIdSet();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            // Small id range so adds keep landing on tombstones
+            int id = 1 + random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                set.remove(id);
+                expected.remove(id);
+            } else {
+                set.add(id);
+                expected.add(id);
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (int id = 1; id <= 64; id++) {
+            assertEquals(expected.contains(id), set.contains(id), "id " + id);
+        }
+    }
+
+    @Test
+    void growsWithManyMembers() {
+        EntityIdSet set = new EntityIdSet();
+        for (int id = 1; id <= 10_000; id++) {
+            set.add(id);
+        }
+        for (int id = 1; id <= 10_000; id += 2) {
+            set.remove(id);
+        }
+
+        assertEquals(5_000, set.size());
+        for (int id = 1; id <= 10_000; id++) {
+            assertEquals(id % 2 == 0, set.contains(id));
+        }
+    }
+
+    @Test
+    void clearEmpties() {
+        EntityIdSet set = new EntityIdSet();
+        for (int id = 1; id <= 100; id++) {
+            set.add(id);
+        }
+        set.clear();
+
+        assertEquals(0, set.size());
+        for (int id = 1; id <= 100; id++) {
+            assertFalse(set.contains(id));
+        }
+        set.add(5);
+        assertTrue(set.contains(5));
+    }
+}
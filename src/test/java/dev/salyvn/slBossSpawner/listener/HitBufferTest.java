@@ -0,0 +1,57 @@
+package dev.salyvn.slBossSpawner.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HitBufferTest {
+    private record Hit(int fightHandle, int playerHandle, double amount, byte kind, DamageBucket bucket) {}
+
+    private static List<Hit> drain(HitBuffer buffer) {
+        List<Hit> hits = new ArrayList<>();
+        buffer.drain((fight, player, amount, kind, bucket) -> hits.add(new Hit(fight, player, amount, kind, bucket)));
+        return hits;
+    }
+
+    @Test
+    void drainsInAppendOrder() {
+        HitBuffer buffer = new HitBuffer(4);
+        buffer.append(0, 5, 1.5, HitBuffer.PLAYER_DAMAGE_BOSS, DamageBucket.MELEE);
+        buffer.append(1, 6, 2.5, HitBuffer.BOSS_DAMAGE_PLAYER, DamageBucket.OTHER);
+        buffer.append(0, 7, 3.5, HitBuffer.PLAYER_DAMAGE_BOSS, DamageBucket.PET);
+
+        assertEquals(List.of(
+            new Hit(0, 5, 1.5, HitBuffer.PLAYER_DAMAGE_BOSS, DamageBucket.MELEE),
+            new Hit(1, 6, 2.5, HitBuffer.BOSS_DAMAGE_PLAYER, DamageBucket.OTHER),
+            new Hit(0, 7, 3.5, HitBuffer.PLAYER_DAMAGE_BOSS, DamageBucket.PET)
+        ), drain(buffer));
+        assertEquals(0, buffer.size());
+        assertEquals(List.of(), drain(buffer));
+    }
+
+    @Test
+    void fillsToCapacityAndIsReusable() {
+        HitBuffer buffer = new HitBuffer(3);
+        assertEquals(3, buffer.capacity());
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertFalse(buffer.isFull());
+                buffer.append(round, i, i, HitBuffer.PLAYER_DAMAGE_BOSS, DamageBucket.byOrdinal(i));
+            }
+            assertTrue(buffer.isFull());
+
+            List<Hit> hits = drain(buffer);
+            assertEquals(3, hits.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(round, hits.get(i).fightHandle());
+                assertEquals(i, hits.get(i).playerHandle());
+                assertEquals(DamageBucket.byOrdinal(i), hits.get(i).bucket());
+            }
+            assertFalse(buffer.isFull());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package dev.salyvn.slBossSpawner.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeoutWheelTest {
+    private static final long MAX_DELAY_TICKS = (1L << 24) - 1;
+
+    private TimeoutWheel wheel;
+    private boolean driving;
+    private long tick;
+
+    @BeforeEach
+    void setUp() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setLevel(Level.OFF);
+        wheel = new TimeoutWheel(advance -> {
+            assertFalse(driving, "driver started twice");
+            driving = true;
+            return () -> driving = false;
+        }, logger);
+        tick = 0;
+    }
+
+    private void advance(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            tick++;
+            wheel.advance();
+        }
+    }
+
+    private long[] scheduleAt(long delay) {
+        long[] firedAt = { -1 };
+        wheel.schedule(delay, () -> firedAt[0] = tick);
+        return firedAt;
+    }
+
+    @Test
+    void firesOnItsTickAtEveryLevel() {
+        long[] delays = { 1, 2, 63, 64, 65, 127, 4095, 4096, 4097, 262143, 262144, 262145, 300_000 };
+        List<long[]> fired = new ArrayList<>();
+        for (long delay : delays) {
+            fired.add(scheduleAt(delay));
+        }
+
+        advance(300_000);
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(delays[i], fired.get(i)[0], "delay " + delays[i]);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void randomDelaysFromRandomStartsFireExactly() {
+        Random random = new Random(42);
+        List<long[]> fired = new ArrayList<>();
+        List<Long> expected = new ArrayList<>();
+        for (int round = 0; round < 50; round++) {
+            advance(random.nextInt(5000));
+            for (int i = 0; i < 20; i++) {
+                long delay = 1 + random.nextInt(20_000);
+                fired.add(scheduleAt(delay));
+                expected.add(tick + delay);
+            }
+        }
+
+        advance(20_001);
+        for (int i = 0; i < fired.size(); i++) {
+            assertEquals((long) expected.get(i), fired.get(i)[0]);
+        }
+    }
+
+    @Test
+    void cascadesAcrossTopLevelBoundary() {
+        // Deadline and now differ above the top level: 2^24 - 5 + 10 crosses bit 24
+        advance((1L << 24) - 5);
+        long[] fired = scheduleAt(10);
+        long[] longer = scheduleAt(300_000);
+
+        advance(300_000);
+        assertEquals((1L << 24) + 5, fired[0]);
+        assertEquals((1L << 24) - 5 + 300_000, longer[0]);
+    }
+
+    @Test
+    void clampsDelays() {
+        long[] tooLong = scheduleAt(Long.MAX_VALUE);
+        long[] tooShort = scheduleAt(0);
+
+        advance(MAX_DELAY_TICKS);
+        assertEquals(1, tooShort[0]);
+        assertEquals(MAX_DELAY_TICKS, tooLong[0]);
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() {
+        long[] fired = { -1 };
+        TimeoutWheel.Timeout timeout = wheel.schedule(100, () -> fired[0] = tick);
+        scheduleAt(200);
+        assertTrue(timeout.isPending());
+
+        timeout.cancel();
+        timeout.cancel();
+        assertFalse(timeout.isPending());
+        assertEquals(1, wheel.size());
+
+        advance(200);
+        assertEquals(-1, fired[0]);
+    }
+
+    @Test
+    void driverRunsOnlyWhilePending() {
+        assertFalse(driving);
+        TimeoutWheel.Timeout first = wheel.schedule(10, () -> {});
+        assertTrue(driving);
+
+        first.cancel();
+        assertFalse(driving);
+
+        scheduleAt(5);
+        assertTrue(driving);
+        advance(5);
+        assertFalse(driving);
+    }
+
+    @Test
+    void callbacksMayScheduleAndSurviveFailures() {
+        long[] chained = { -1 };
+        wheel.schedule(3, () -> {
+            throw new IllegalStateException("boom");
+        });
+        wheel.schedule(3, () -> wheel.schedule(4, () -> chained[0] = tick));
+
+        advance(7);
+        assertEquals(7, chained[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void clearDropsEverything() {
+        long[] fired = scheduleAt(10);
+        scheduleAt(100_000);
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertFalse(driving);
+        advance(100_000);
+        assertEquals(-1, fired[0]);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.salyvn.slBossSpawner.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CronScheduleTest {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static ZonedDateTime at(ZoneId zone, int year, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(year, month, day, hour, minute, 0, 0, zone);
+    }
+
+    private static ZonedDateTime next(String expression, ZonedDateTime after) {
+        return CronSchedule.parse(expression).next(after);
+    }
+
+    @Test
+    void nextIsStrictlyAfter() {
+        assertEquals(at(UTC, 2026, 5, 1, 20, 0), next("0 20 * * *", at(UTC, 2026, 5, 1, 19, 59)));
+        assertEquals(at(UTC, 2026, 5, 2, 20, 0), next("0 20 * * *", at(UTC, 2026, 5, 1, 20, 0)));
+        assertEquals(at(UTC, 2026, 5, 1, 20, 1), next("* * * * *", at(UTC, 2026, 5, 1, 20, 0).plusSeconds(30)));
+    }
+
+    @Test
+    void weekdaysAndNames() {
+        // 2026-05-01 is a Friday
+        assertEquals(at(UTC, 2026, 5, 2, 20, 0), next("0 20 * * SAT,SUN", at(UTC, 2026, 5, 1, 21, 0)));
+        assertEquals(at(UTC, 2026, 5, 3, 8, 0), next("0 8 * * 7", at(UTC, 2026, 5, 2, 9, 0)));
+        assertEquals(at(UTC, 2026, 5, 3, 8, 0), next("0 8 * * 0", at(UTC, 2026, 5, 2, 9, 0)));
+        assertEquals(at(UTC, 2026, 6, 1, 0, 0), next("0 0 * jun mon-fri", at(UTC, 2026, 5, 1, 0, 0)));
+    }
+
+    @Test
+    void stepsRangesAndLists() {
+        ZonedDateTime after = at(UTC, 2026, 5, 1, 10, 7);
+        assertEquals(at(UTC, 2026, 5, 1, 10, 15), next("*/15 * * * *", after));
+        assertEquals(at(UTC, 2026, 5, 1, 10, 10), next("10/25 * * * *", after));
+        assertEquals(at(UTC, 2026, 5, 1, 12, 0), next("0 0-6/3,12 * * *", after));
+    }
+
+    @Test
+    void restrictedDayFieldsMatchEither() {
+        // Day 13 or any Friday, whichever comes first
+        ZonedDateTime after = at(UTC, 2026, 5, 2, 0, 0);
+        assertEquals(at(UTC, 2026, 5, 8, 0, 0), next("0 0 13 * FRI", after));
+        assertEquals(at(UTC, 2026, 5, 13, 0, 0), next("0 0 13 * *", after));
+    }
+
+    @Test
+    void monthEnds() {
+        assertEquals(at(UTC, 2026, 3, 31, 0, 0), next("0 0 31 * *", at(UTC, 2026, 1, 31, 0, 0)));
+        assertEquals(at(UTC, 2026, 4, 30, 0, 0), next("0 0 30 * *", at(UTC, 2026, 3, 30, 0, 0)));
+        assertEquals(at(UTC, 2027, 1, 1, 0, 0), next("0 0 1 1 *", at(UTC, 2026, 12, 31, 23, 59)));
+        assertEquals(at(UTC, 2028, 2, 29, 12, 0), next("0 12 29 2 *", at(UTC, 2025, 3, 1, 0, 0)));
+    }
+
+    @Test
+    void impossibleDateHasNoNext() {
+        assertNull(next("0 0 31 2 *", at(UTC, 2026, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void springForwardGapMovesPastTheGap() {
+        // 2026-03-08 02:00 EST jumps to 03:00 EDT: 02:30 does not exist that day
+        ZonedDateTime fire = next("30 2 * * *", at(NEW_YORK, 2026, 3, 8, 1, 0));
+        assertEquals(at(NEW_YORK, 2026, 3, 8, 3, 30), fire);
+        assertEquals(at(NEW_YORK, 2026, 3, 9, 2, 30), next("30 2 * * *", fire));
+    }
+
+    @Test
+    void fallBackOverlapFiresOnce() {
+        // 2026-11-01 02:00 EDT falls back to 01:00 EST: 01:30 happens twice
+        ZonedDateTime first = next("30 1 * * *", at(NEW_YORK, 2026, 11, 1, 0, 0));
+        assertEquals(at(NEW_YORK, 2026, 11, 1, 1, 30).withEarlierOffsetAtOverlap(), first);
+        assertEquals(at(NEW_YORK, 2026, 11, 2, 1, 30), next("30 1 * * *", first));
+    }
+
+    @Test
+    void dailyMatchesEquivalentExpression() {
+        CronSchedule daily = CronSchedule.daily(LocalTime.of(18, 45));
+        assertEquals("45 18 * * *", daily.getExpression());
+        ZonedDateTime after = at(NEW_YORK, 2026, 3, 7, 19, 0);
+        assertEquals(next("45 18 * * *", after), daily.next(after));
+    }
+
+    @Test
+    void rejectsMalformedExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 20 * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("60 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 0 0 * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("*/0 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("5-1 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 0 * FOO *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0,,5 * * * *"));
+    }
+}